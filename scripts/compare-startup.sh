@@ -0,0 +1,27 @@
+#!/bin/bash
+# Compares process startup, first-parse latency and peak RSS of the JVM and native builds of ParserCli.
+#   mvn -B package && mvn -B -Pnative package
+#   scripts/compare-startup.sh [runs] [file.sql]
+set -e
+cd "$(dirname "$0")/.."
+RUNS=${1:-5}
+SQL=${2:-src/main/resources/corpus/bigquery.sql}
+JAR=${JAR:-target/parser-demo-0.0.1.jar}
+NATIVE=${NATIVE:-target/parser-cli}
+
+run() {
+	local label=$1; shift
+	for i in $(seq "$RUNS"); do
+		local start=$(date +%s%N)
+		local timing=$("$@" --timing "$SQL" 2>&1 >/dev/null | tail -1)
+		local wall=$(( ($(date +%s%N) - start) / 1000000 ))
+		echo "$label wallMs=$wall $timing"
+	done
+}
+
+run jvm java -cp "$JAR" com.example.parser.cli.ParserCli
+if [ -x "$NATIVE" ]; then
+	run native "$NATIVE"
+else
+	echo "native: no executable at $NATIVE, build it with mvn -B -Pnative package" >&2
+fi
@@ -19,9 +19,15 @@ import org.apache.tinkerpop.gremlin.process.traversal.step.filter.DropStep;
 import org.apache.tinkerpop.gremlin.process.traversal.step.map.AddEdgeStartStep;
 import org.apache.tinkerpop.gremlin.process.traversal.step.map.GraphStep;
 import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerFactory;
+import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerGraph;
+
+import com.example.parser.gremlin.GraphStatistics;
+import com.example.parser.gremlin.TraversalCostEstimator;
 
 public class GremlinDemo {
 
+	private static TraversalCostEstimator estimator;
+
 	public static void main(String[] args) throws Exception {
 
 		runGremlinEngine();
@@ -77,7 +83,11 @@ public class GremlinDemo {
 		ScriptEngine engine = new GremlinLangScriptEngine();
 		System.out.println("engine : " + engine);
 
-		GraphTraversalSource g = TinkerFactory.createGratefulDead().traversal();
+		TinkerGraph graph = TinkerFactory.createGratefulDead();
+		estimator = new TraversalCostEstimator(GraphStatistics.of(graph));
+		System.out.println("statistics : " + estimator.getStatistics());
+
+		GraphTraversalSource g = graph.traversal();
 		engine.put("g", g);
 		testGremlinParser(engine);
 	}
@@ -87,6 +97,7 @@ public class GremlinDemo {
 		System.out.println("-----stm-----" + stmt);
 
 		processSteps(stmt);
+		System.out.println("cost : " + estimator.estimate(stmt));
 
 		System.out.println("--------end--------");
 	}
@@ -127,6 +138,15 @@ public class GremlinDemo {
 		// Apache
 
 		parse(parser, "g.V().has(\"name\",\"gremlin\")");
+
+		// cost estimates against the Grateful Dead statistics
+
+		parse(parser, "g.V().has(\"name\",\"Garcia\").in(\"writtenBy\").out(\"followedBy\").values(\"name\")");
+		parse(parser, "g.V(1).repeat(out(\"followedBy\")).times(2).values(\"name\")");
+		parse(parser, "g.V().hasLabel(\"song\").repeat(out(\"followedBy\")).emit().path()");
+		parse(parser, "g.V().out().out().out().count()");
+		parse(parser, "g.V().match(as(\"a\").out(\"sungBy\").as(\"b\"),\n"
+				+ "  as(\"a\").out(\"writtenBy\").as(\"b\")).select(\"a\")");
 //		
 //
 //		parse(parser, "g.V(1).has(\"name\",\"gremlin\").\n" + "  out(\"knows\").values(\"name\")");
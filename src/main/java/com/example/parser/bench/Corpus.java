@@ -0,0 +1,57 @@
+package com.example.parser.bench;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+public final class Corpus {
+
+	public static final String DEFAULT_RESOURCE = "corpus/bigquery.sql";
+
+	// statements end with ';' at the end of a line
+	private static final Pattern SEPARATOR = Pattern.compile(";\\s*(?:\\r?\\n|$)");
+
+	private Corpus() {
+	}
+
+	public static List<String> defaults() throws IOException {
+		try (InputStream in = Corpus.class.getClassLoader().getResourceAsStream(DEFAULT_RESOURCE)) {
+			if (in == null) {
+				throw new IOException("missing resource " + DEFAULT_RESOURCE);
+			}
+			ByteArrayOutputStream out = new ByteArrayOutputStream();
+			byte[] buffer = new byte[8192];
+			for (int n; (n = in.read(buffer)) > 0;) {
+				out.write(buffer, 0, n);
+			}
+			return split(new String(out.toByteArray(), StandardCharsets.UTF_8));
+		}
+	}
+
+	public static List<String> load(Path path) throws IOException {
+		return split(new String(Files.readAllBytes(path), StandardCharsets.UTF_8));
+	}
+
+	public static List<String> load(String path) throws IOException {
+		return path == null ? defaults() : load(Paths.get(path));
+	}
+
+	public static List<String> split(String text) {
+		List<String> statements = new ArrayList<>();
+		for (String s : SEPARATOR.split(text)) {
+			s = s.trim();
+			if (!s.isEmpty()) {
+				statements.add(s);
+			}
+		}
+		return statements;
+	}
+
+}
@@ -0,0 +1,340 @@
+package com.example.parser.bench;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import com.example.parser.engine.ParseResult;
+import com.example.parser.engine.ParserEngine;
+import com.example.parser.engine.ParserEngines;
+import com.example.parser.engine.StatementClass;
+import com.example.parser.util.Json;
+
+/**
+ * Runs a SQL corpus through every engine that can be loaded, diffs the
+ * normalized results against the first available engine and writes a JSON
+ * report with per-statement latency percentiles.
+ *
+ * <pre>
+ * EngineHarness [--corpus file.sql] [--engines graal,v8,nashorn] [--warmup n] [--iterations n] [--out report.json]
+ * </pre>
+ */
+public class EngineHarness {
+
+	private final List<String> corpus;
+	private final int warmup;
+	private final int iterations;
+
+	public EngineHarness(List<String> corpus, int warmup, int iterations) {
+		this.corpus = corpus;
+		this.warmup = warmup;
+		this.iterations = iterations;
+	}
+
+	public static void main(String[] args) throws Exception {
+		String corpusFile = null;
+		String out = null;
+		List<String> engines = ParserEngines.names();
+		int warmup = 20;
+		int iterations = 50;
+
+		for (int i = 0; i < args.length; i++) {
+			switch (args[i]) {
+			case "--corpus":
+				corpusFile = args[++i];
+				break;
+			case "--engines":
+				engines = Arrays.asList(args[++i].split(","));
+				break;
+			case "--warmup":
+				warmup = Integer.parseInt(args[++i]);
+				break;
+			case "--iterations":
+				iterations = Integer.parseInt(args[++i]);
+				break;
+			case "--out":
+				out = args[++i];
+				break;
+			default:
+				throw new IllegalArgumentException("unknown option " + args[i]);
+			}
+		}
+
+		EngineHarness harness = new EngineHarness(Corpus.load(corpusFile), warmup, iterations);
+		String report = Json.write(harness.run(engines));
+
+		if (out == null) {
+			System.out.println(report);
+		} else {
+			Files.write(Paths.get(out), report.getBytes(StandardCharsets.UTF_8));
+			System.out.println("report : " + out);
+		}
+	}
+
+	public Map<String, Object> run(List<String> engineNames) {
+		List<Map<String, Object>> engineInfo = new ArrayList<>();
+		Map<String, Run[]> runs = new LinkedHashMap<>();
+
+		for (String name : engineNames) {
+			Map<String, Object> info = new LinkedHashMap<>();
+			info.put("name", name);
+			long start = System.nanoTime();
+			try (ParserEngine engine = ParserEngines.create(name)) {
+				info.put("available", true);
+				info.put("initMs", (System.nanoTime() - start) / 1_000_000);
+				runs.put(name, runAll(engine));
+			} catch (Throwable e) {
+				info.put("available", false);
+				info.put("error", String.valueOf(e));
+				System.err.println("engine " + name + " unavailable : " + e);
+			}
+			engineInfo.add(info);
+		}
+
+		Map<String, Map<String, Object>> summary = new LinkedHashMap<>();
+		for (String name : runs.keySet()) {
+			Map<String, Object> s = new LinkedHashMap<>();
+			s.put("ok", 0);
+			s.put("failed", 0);
+			s.put("diffs", 0);
+			s.put("fastest", 0);
+			summary.put(name, s);
+		}
+
+		List<Map<String, Object>> statements = new ArrayList<>();
+		for (int i = 0; i < corpus.size(); i++) {
+			String sql = corpus.get(i);
+			Map<String, Object> stmt = new LinkedHashMap<>();
+			stmt.put("id", i);
+			stmt.put("class", StatementClass.of(sql).key());
+			stmt.put("length", sql.length());
+			stmt.put("sql", sql);
+
+			String reference = null;
+			String fastest = null;
+			long fastestP50 = Long.MAX_VALUE;
+			Map<String, Object> results = new LinkedHashMap<>();
+			List<Map<String, Object>> diffs = new ArrayList<>();
+
+			for (Map.Entry<String, Run[]> e : runs.entrySet()) {
+				String name = e.getKey();
+				Run run = e.getValue()[i];
+				results.put(name, run.toMap());
+				increment(summary.get(name), run.error == null ? "ok" : "failed");
+
+				if (run.error == null && run.p(0.5) < fastestP50) {
+					fastestP50 = run.p(0.5);
+					fastest = name;
+				}
+
+				if (reference == null) {
+					reference = name;
+				} else {
+					Run ref = runs.get(reference)[i];
+					if (diff(diffs, name, "error", ref.error == null, run.error == null)
+							|| (ref.error == null && run.error == null
+									&& (diff(diffs, name, "tableList", ref.tableList, run.tableList)
+											| diff(diffs, name, "columnList", ref.columnList, run.columnList)
+											| diffAst(diffs, name, ref.ast, run.ast)))) {
+						increment(summary.get(name), "diffs");
+					}
+				}
+			}
+
+			if (fastest != null) {
+				increment(summary.get(fastest), "fastest");
+			}
+
+			stmt.put("reference", reference);
+			stmt.put("fastest", fastest);
+			stmt.put("results", results);
+			stmt.put("diffs", diffs);
+			statements.add(stmt);
+		}
+
+		Map<String, Object> report = new LinkedHashMap<>();
+		report.put("warmup", warmup);
+		report.put("iterations", iterations);
+		report.put("engines", engineInfo);
+		report.put("summary", summary);
+		report.put("statements", statements);
+		return report;
+	}
+
+	private Run[] runAll(ParserEngine engine) {
+		Run[] runs = new Run[corpus.size()];
+		for (int i = 0; i < corpus.size(); i++) {
+			runs[i] = runOne(engine, corpus.get(i));
+		}
+		return runs;
+	}
+
+	private Run runOne(ParserEngine engine, String sql) {
+		Run run = new Run(iterations);
+		try {
+			ParseResult result = engine.parseResult(sql);
+			run.tableList = sorted(result.getTableList());
+			run.columnList = sorted(result.getColumnList());
+			run.ast = normalize(result.getAst());
+
+			for (int i = 0; i < warmup; i++) {
+				engine.parseResult(sql);
+			}
+			for (int i = 0; i < iterations; i++) {
+				long start = System.nanoTime();
+				engine.parseResult(sql);
+				run.nanos[i] = System.nanoTime() - start;
+			}
+			Arrays.sort(run.nanos);
+		} catch (Throwable e) {
+			run.error = String.valueOf(e);
+		}
+		return run;
+	}
+
+	private static boolean diff(List<Map<String, Object>> diffs, String engine, String field, Object expected,
+			Object actual) {
+		if (Objects.equals(expected, actual)) {
+			return false;
+		}
+		Map<String, Object> d = new LinkedHashMap<>();
+		d.put("engine", engine);
+		d.put("field", field);
+		d.put("reference", expected);
+		d.put("actual", actual);
+		diffs.add(d);
+		return true;
+	}
+
+	private static boolean diffAst(List<Map<String, Object>> diffs, String engine, Object expected, Object actual) {
+		String path = firstDifference(expected, actual, "ast");
+		if (path == null) {
+			return false;
+		}
+		Map<String, Object> d = new LinkedHashMap<>();
+		d.put("engine", engine);
+		d.put("field", "ast");
+		d.put("path", path);
+		diffs.add(d);
+		return true;
+	}
+
+	private static String firstDifference(Object a, Object b, String path) {
+		if (a instanceof Map && b instanceof Map) {
+			Map<?, ?> ma = (Map<?, ?>) a;
+			Map<?, ?> mb = (Map<?, ?>) b;
+			Set<Object> keys = new HashSet<>(ma.keySet());
+			keys.addAll(mb.keySet());
+			for (Object key : keys) {
+				String d = firstDifference(ma.get(key), mb.get(key), path + "." + key);
+				if (d != null) {
+					return d;
+				}
+			}
+			return null;
+		}
+		if (a instanceof List && b instanceof List) {
+			List<?> la = (List<?>) a;
+			List<?> lb = (List<?>) b;
+			if (la.size() != lb.size()) {
+				return path + ".length";
+			}
+			for (int i = 0; i < la.size(); i++) {
+				String d = firstDifference(la.get(i), lb.get(i), path + "[" + i + "]");
+				if (d != null) {
+					return d;
+				}
+			}
+			return null;
+		}
+		return Objects.equals(a, b) ? null : path;
+	}
+
+	// engines disagree on Integer vs Double for whole numbers, compare them as longs
+	@SuppressWarnings("unchecked")
+	static <T> T normalize(T value) {
+		if (value instanceof Number) {
+			double d = ((Number) value).doubleValue();
+			return (T) (d == Math.rint(d) && !Double.isInfinite(d) ? (Object) (long) d : (Object) d);
+		}
+		if (value instanceof List) {
+			List<Object> list = new ArrayList<>();
+			for (Object item : (List<?>) value) {
+				list.add(normalize(item));
+			}
+			return (T) list;
+		}
+		if (value instanceof Map) {
+			Map<String, Object> map = new LinkedHashMap<>();
+			for (Map.Entry<?, ?> e : ((Map<?, ?>) value).entrySet()) {
+				map.put(String.valueOf(e.getKey()), normalize(e.getValue()));
+			}
+			return (T) map;
+		}
+		return value;
+	}
+
+	// list order follows each engine's traversal, not the statement
+	private static List<String> sorted(List<String> list) {
+		if (list == null) {
+			return null;
+		}
+		List<String> copy = new ArrayList<>(list);
+		Collections.sort(copy);
+		return copy;
+	}
+
+	private static void increment(Map<String, Object> counters, String key) {
+		counters.put(key, (Integer) counters.get(key) + 1);
+	}
+
+	private static class Run {
+
+		final long[] nanos;
+		String error;
+		List<String> tableList;
+		List<String> columnList;
+		Object ast;
+
+		Run(int iterations) {
+			nanos = new long[iterations];
+		}
+
+		long p(double p) {
+			if (nanos.length == 0) {
+				return 0;
+			}
+			int index = (int) Math.ceil(p * nanos.length) - 1;
+			return nanos[Math.max(0, Math.min(nanos.length - 1, index))];
+		}
+
+		Map<String, Object> toMap() {
+			Map<String, Object> map = new LinkedHashMap<>();
+			map.put("ok", error == null);
+			if (error != null) {
+				map.put("error", error);
+				return map;
+			}
+			long total = 0;
+			for (long n : nanos) {
+				total += n;
+			}
+			map.put("p50Us", p(0.50) / 1000.0);
+			map.put("p90Us", p(0.90) / 1000.0);
+			map.put("p99Us", p(0.99) / 1000.0);
+			map.put("maxUs", p(1.0) / 1000.0);
+			map.put("meanUs", nanos.length == 0 ? 0 : total / nanos.length / 1000.0);
+			return map;
+		}
+	}
+
+}
@@ -0,0 +1,238 @@
+package com.example.parser.bench;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.parboiled.Parboiled;
+import org.parboiled.parserunners.ProfilingParseRunner;
+import org.parboiled.parserunners.ProfilingParseRunner.Report;
+import org.parboiled.parserunners.ProfilingParseRunner.RuleReport;
+import org.parboiled.support.ParsingResult;
+
+import com.example.parser.engine.GrammarMode;
+import com.example.parser.engine.ParseHandle;
+import com.example.parser.engine.ParserEngine;
+import com.example.parser.engine.ParserEngines;
+import com.example.parser.parboiled.AbsBaseParser;
+import com.example.parser.parboiled.CalcParser;
+import com.example.parser.parboiled.MemoCalcParser;
+import com.example.parser.parboiled.MemoSQLParser;
+import com.example.parser.parboiled.SQLParser;
+import com.example.parser.util.Json;
+
+/**
+ * Runs a corpus through one grammar with rule-level profiling and writes the
+ * hottest rules as JSON, ranked by time spent in the rule itself.
+ * <p>
+ * The BigQuery grammar is loaded in {@link GrammarMode#PROFILE}, so rules are
+ * reported by their {@code peg$bytecode} index, and the report names the
+ * clock the rules were timed with. The Parboiled grammars run under
+ * {@link ProfilingParseRunner}; {@code --memo} swaps in the
+ * {@code @MemoMismatches} variants so rematch and remismatch counts can be
+ * compared between the two. The bundled corpus is BigQuery SQL, so they need
+ * a {@code --corpus} in their own syntax.
+ *
+ * <pre>
+ * GrammarProfiler [--grammar bigquery|sql|calc] [--engine graal|v8|nashorn] [--memo] [--corpus file.sql] [--iterations n] [--top n] [--out report.json]
+ * </pre>
+ */
+public class GrammarProfiler {
+
+	public static void main(String[] args) throws Exception {
+		String grammar = "bigquery";
+		String engine = ParserEngines.GRAAL;
+		String corpusFile = null;
+		String out = null;
+		boolean memo = false;
+		int iterations = 1;
+		int top = 25;
+
+		for (int i = 0; i < args.length; i++) {
+			switch (args[i]) {
+			case "--grammar":
+				grammar = args[++i];
+				break;
+			case "--engine":
+				engine = args[++i];
+				break;
+			case "--memo":
+				memo = true;
+				break;
+			case "--corpus":
+				corpusFile = args[++i];
+				break;
+			case "--iterations":
+				iterations = Integer.parseInt(args[++i]);
+				break;
+			case "--top":
+				top = Integer.parseInt(args[++i]);
+				break;
+			case "--out":
+				out = args[++i];
+				break;
+			default:
+				throw new IllegalArgumentException("unknown option " + args[i]);
+			}
+		}
+
+		if (corpusFile == null && !"bigquery".equals(grammar)) {
+			throw new IllegalArgumentException("--grammar " + grammar + " needs a --corpus, the bundled one is BigQuery");
+		}
+		List<String> corpus = Corpus.load(corpusFile);
+		Map<String, Object> report;
+		switch (grammar) {
+		case "bigquery":
+			report = profilePeg(engine, corpus, iterations, top);
+			break;
+		case "sql":
+			report = profileParboiled(memo ? MemoSQLParser.class : SQLParser.class, corpus, iterations, top);
+			break;
+		case "calc":
+			report = profileParboiled(memo ? MemoCalcParser.class : CalcParser.class, corpus, iterations, top);
+			break;
+		default:
+			throw new IllegalArgumentException("unknown grammar " + grammar);
+		}
+
+		String json = Json.write(report);
+		if (out == null) {
+			System.out.println(json);
+		} else {
+			Files.write(Paths.get(out), json.getBytes(StandardCharsets.UTF_8));
+			System.out.println("report : " + out);
+		}
+	}
+
+	static Map<String, Object> profilePeg(String engineName, List<String> corpus, int iterations, int top)
+			throws Exception {
+		long[] calls = new long[0];
+		long[] fails = new long[0];
+		long[] micros = new long[0];
+		int failures = 0;
+		String clock = null;
+
+		try (ParserEngine engine = ParserEngines.create(engineName, GrammarMode.PROFILE)) {
+			for (int i = 0; i < iterations; i++) {
+				for (String sql : corpus) {
+					String profile;
+					try (ParseHandle handle = engine.parseHandle(sql)) {
+						failures += handle.select("error") != null ? 1 : 0;
+						profile = String.valueOf(handle.select("profile"));
+						clock = String.valueOf(handle.select("clock"));
+					}
+					// rule,calls,fails,selfMicros;...
+					for (String entry : profile.split(";")) {
+						String[] fields = entry.split(",");
+						if (fields.length != 4) {
+							continue;
+						}
+						int rule = Integer.parseInt(fields[0]);
+						if (rule >= calls.length) {
+							calls = Arrays.copyOf(calls, rule + 64);
+							fails = Arrays.copyOf(fails, rule + 64);
+							micros = Arrays.copyOf(micros, rule + 64);
+						}
+						calls[rule] += Long.parseLong(fields[1]);
+						fails[rule] += Long.parseLong(fields[2]);
+						micros[rule] += Long.parseLong(fields[3]);
+					}
+				}
+			}
+		}
+
+		List<Integer> ranked = new ArrayList<>();
+		long totalCalls = 0;
+		long totalFails = 0;
+		for (int rule = 0; rule < calls.length; rule++) {
+			if (calls[rule] > 0) {
+				ranked.add(rule);
+				totalCalls += calls[rule];
+				totalFails += fails[rule];
+			}
+		}
+		long[] time = micros;
+		long[] count = calls;
+		ranked.sort(Comparator.<Integer> comparingLong(r -> time[r]).thenComparingLong(r -> count[r]).reversed());
+
+		// Date.now() ticks in milliseconds, so finer figures would be noise
+		boolean coarse = "Date.now".equals(clock);
+		if (coarse) {
+			System.err.println(engineName + " has no " + GrammarMode.PROFILE_CLOCK + ", rule times are in whole ms");
+		}
+		List<Map<String, Object>> rules = new ArrayList<>();
+		for (int rule : ranked.subList(0, Math.min(top, ranked.size()))) {
+			Map<String, Object> row = new LinkedHashMap<>();
+			row.put("rule", rule);
+			row.put("calls", calls[rule]);
+			row.put("fails", fails[rule]);
+			row.put("failShare", Math.round(fails[rule] * 1000.0 / calls[rule]) / 1000.0);
+			if (coarse) {
+				row.put("selfMillis", micros[rule] / 1000);
+			} else {
+				row.put("selfMicros", micros[rule]);
+			}
+			rules.add(row);
+		}
+
+		Map<String, Object> report = new LinkedHashMap<>();
+		report.put("grammar", "bigquery");
+		report.put("engine", engineName);
+		report.put("clock", clock);
+		report.put("statements", corpus.size() * iterations);
+		report.put("failures", failures);
+		report.put("ruleCalls", totalCalls);
+		report.put("ruleFails", totalFails);
+		report.put("rules", rules);
+		return report;
+	}
+
+	static Map<String, Object> profileParboiled(Class<? extends AbsBaseParser> parserClass, List<String> corpus,
+			int iterations, int top) {
+		AbsBaseParser parser = Parboiled.createParser(parserClass);
+		ProfilingParseRunner<Object> runner = new ProfilingParseRunner<>(parser.start());
+		int failures = 0;
+		for (int i = 0; i < iterations; i++) {
+			for (String sql : corpus) {
+				ParsingResult<Object> result = runner.run(sql);
+				failures += result.matched ? 0 : 1;
+			}
+		}
+
+		Report profile = runner.getReport();
+		List<RuleReport> ranked = new ArrayList<>(profile.ruleReports);
+		ranked.sort(Comparator.comparingLong(RuleReport::getNanoTime)
+				.thenComparingInt(RuleReport::getInvocations).reversed());
+
+		List<Map<String, Object>> rules = new ArrayList<>();
+		for (RuleReport rule : ranked.subList(0, Math.min(top, ranked.size()))) {
+			Map<String, Object> row = new LinkedHashMap<>();
+			row.put("rule", rule.getMatcher().getLabel());
+			row.put("calls", rule.getInvocations());
+			row.put("matches", rule.getMatches());
+			row.put("mismatches", rule.getMismatches());
+			row.put("rematches", rule.getRematches());
+			row.put("remismatches", rule.getRemismatches());
+			row.put("micros", rule.getNanoTime() / 1000);
+			rules.add(row);
+		}
+
+		Map<String, Object> report = new LinkedHashMap<>();
+		report.put("grammar", parserClass.getSimpleName());
+		report.put("statements", corpus.size() * iterations);
+		report.put("failures", failures);
+		report.put("ruleCalls", profile.totalInvocations);
+		report.put("ruleFails", profile.totalMismatches);
+		report.put("rematches", profile.rematches);
+		report.put("remismatches", profile.remismatches);
+		report.put("rules", rules);
+		return report;
+	}
+
+}
@@ -0,0 +1,117 @@
+package com.example.parser.bench;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.script.Invocable;
+import javax.script.ScriptEngine;
+import javax.script.ScriptEngineManager;
+
+import com.example.parser.engine.GraalParser;
+import com.example.parser.engine.GrammarMode;
+import com.example.parser.engine.ParserEngine;
+import com.example.parser.engine.ParserEngines;
+import com.example.parser.util.Json;
+
+/**
+ * Compares corpus throughput of Graal.js behind the JSR-223
+ * {@code js-scriptengine} bridge with the direct polyglot API that
+ * {@link GraalParser} uses, each converting full results to Java.
+ *
+ * <pre>
+ * ScriptingBenchmark [--corpus file.sql] [--warmup n] [--iterations n]
+ * </pre>
+ */
+public class ScriptingBenchmark {
+
+	public static void main(String[] args) throws Exception {
+		String corpusFile = null;
+		int warmup = 20;
+		int iterations = 50;
+
+		for (int i = 0; i < args.length; i++) {
+			switch (args[i]) {
+			case "--corpus":
+				corpusFile = args[++i];
+				break;
+			case "--warmup":
+				warmup = Integer.parseInt(args[++i]);
+				break;
+			case "--iterations":
+				iterations = Integer.parseInt(args[++i]);
+				break;
+			default:
+				throw new IllegalArgumentException("unknown option " + args[i]);
+			}
+		}
+
+		List<String> corpus = Corpus.load(corpusFile);
+		Map<String, Object> report = new LinkedHashMap<>();
+		report.put("statements", corpus.size());
+		report.put("warmup", warmup);
+		report.put("iterations", iterations);
+
+		double jsr223;
+		try (ParserEngine engine = new ScriptEngineParser(ParserEngines.ES6_GRAMMAR)) {
+			jsr223 = throughput(engine, corpus, warmup, iterations);
+		}
+		double polyglot;
+		try (ParserEngine engine = new GraalParser(ParserEngines.ES6_GRAMMAR)) {
+			polyglot = throughput(engine, corpus, warmup, iterations);
+		}
+
+		report.put("jsr223PerSecond", Math.round(jsr223));
+		report.put("polyglotPerSecond", Math.round(polyglot));
+		report.put("speedup", Math.round(polyglot / jsr223 * 100) / 100.0);
+		System.out.println(Json.write(report));
+	}
+
+	private static double throughput(ParserEngine engine, List<String> corpus, int warmup, int iterations)
+			throws Exception {
+		for (int i = 0; i < warmup; i++) {
+			for (String sql : corpus) {
+				engine.parseResult(sql);
+			}
+		}
+		long start = System.nanoTime();
+		for (int i = 0; i < iterations; i++) {
+			for (String sql : corpus) {
+				engine.parseResult(sql);
+			}
+		}
+		return (double) iterations * corpus.size() / ((System.nanoTime() - start) / 1e9);
+	}
+
+	// the pre-polyglot GraalParser, kept only as the baseline
+	private static class ScriptEngineParser implements ParserEngine {
+
+		private final ScriptEngine engine;
+		private final Object parser;
+
+		ScriptEngineParser(String parserscript) throws Exception {
+			System.setProperty("polyglot.engine.WarnInterpreterOnly", "false");
+			engine = new ScriptEngineManager().getEngineByName("graal.js");
+			engine.eval(GrammarMode.FULL.load(parserscript));
+			parser = engine.eval("PegParser");
+		}
+
+		@Override
+		public Object getParser() {
+			return parser;
+		}
+
+		@Override
+		public Object parse(String input) throws Exception {
+			return ((Invocable) engine).invokeMethod(parser, "parse", input);
+		}
+
+		@Override
+		public void close() throws Exception {
+			if (engine instanceof AutoCloseable) {
+				((AutoCloseable) engine).close();
+			}
+		}
+	}
+
+}
@@ -0,0 +1,829 @@
+package com.example.parser.canonical;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.example.parser.engine.ParseResult;
+
+/**
+ * Reduces a BigQuery AST to a query template: keywords upper case, single
+ * spaces, every literal a {@code ?}, literal-only {@code IN} lists and
+ * multi-row {@code VALUES} collapsed to one entry, and aliases renamed by
+ * position ({@code t1, t2, ...} for tables, {@code c1, c2, ...} for output
+ * columns). Equivalent queries therefore share one canonical string and one
+ * 64-bit FNV-1a hash.
+ * <p>
+ * The AST is walked once and written to a {@link TokenSink}; {@link #hash}
+ * feeds the tokens straight into the hash so no canonical text is built.
+ * Node types the walker does not know, DDL among them, are rejected with an
+ * {@link IllegalArgumentException} rather than written approximately.
+ * <p>
+ * Instances are not thread safe; the alias scopes live on the instance.
+ */
+public class Canonicalizer {
+
+	private static final Set<String> LITERALS = new HashSet<>(Arrays.asList("number", "bigint", "string",
+			"single_quote_string", "double_quote_string", "regex_string", "date", "time", "timestamp", "datetime",
+			"bool", "param", "null"));
+
+	private final Deque<Map<String, Integer>> tableScopes = new ArrayDeque<>();
+	private Map<String, Integer> columnAliases;
+	private boolean resolveColumnAliases;
+	private int tableCount;
+	private int columnCount;
+
+	public String toSql(Object ast) {
+		TextSink sink = new TextSink();
+		walk(ast, sink);
+		return sink.toString();
+	}
+
+	public long hash(Object ast) {
+		HashSink sink = new HashSink();
+		walk(ast, sink);
+		return sink.getHash();
+	}
+
+	public String toSql(ParseResult result) {
+		return toSql(result.getAst());
+	}
+
+	public long hash(ParseResult result) {
+		return hash(result.getAst());
+	}
+
+	public void walk(Object ast, TokenSink sink) {
+		tableScopes.clear();
+		columnAliases = null;
+		resolveColumnAliases = false;
+		tableCount = 0;
+		columnCount = 0;
+		node(ast, sink);
+	}
+
+	private void node(Object node, TokenSink sink) {
+		if (node == null) {
+			return;
+		}
+		if (node instanceof List) {
+			list((List<?>) node, sink);
+			return;
+		}
+		if (node instanceof CharSequence) {
+			sink.word((CharSequence) node);
+			return;
+		}
+		if (!(node instanceof Map)) {
+			sink.placeholder();
+			return;
+		}
+		Map<?, ?> map = (Map<?, ?>) node;
+		if (map.containsKey("ast") && map.containsKey("tableList")) {
+			subquery(map, sink);
+			return;
+		}
+		Object type = map.get("type");
+		String name = type instanceof String ? (String) type : "";
+		switch (name) {
+		case "bigquery":
+			bigquery(map, sink);
+			break;
+		case "select":
+			select(map, sink);
+			break;
+		case "insert":
+		case "replace":
+		case "update":
+		case "delete":
+			// the target tables' aliases are visible to this statement only
+			tableScopes.push(new HashMap<>());
+			try {
+				if ("update".equals(name)) {
+					update(map, sink);
+				} else if ("delete".equals(name)) {
+					delete(map, sink);
+				} else {
+					insert(map, sink);
+				}
+			} finally {
+				tableScopes.pop();
+			}
+			break;
+		case "column_ref":
+			columnRef(map, sink);
+			break;
+		case "binary_expr":
+			binary(map, sink);
+			break;
+		case "unary_expr":
+			sink.keyword((String) map.get("operator"));
+			node(map.get("expr"), sink);
+			break;
+		case "number":
+		case "bigint":
+		case "string":
+		case "single_quote_string":
+		case "double_quote_string":
+		case "regex_string":
+		case "date":
+		case "time":
+		case "timestamp":
+		case "datetime":
+		case "bool":
+		case "param":
+			sink.placeholder();
+			break;
+		case "null":
+			sink.keyword("NULL");
+			break;
+		case "star":
+			sink.word("*");
+			break;
+		case "expr_list":
+			sink.open();
+			exprList(map, sink);
+			sink.close();
+			break;
+		case "array":
+			array(map, sink);
+			break;
+		case "struct":
+			struct(map, sink);
+			break;
+		case "function":
+			sink.keyword((String) map.get("name"));
+			sink.args();
+			Object args = map.get("args");
+			if (args instanceof Map && "expr_list".equals(((Map<?, ?>) args).get("type"))) {
+				list((List<?>) ((Map<?, ?>) args).get("value"), sink);
+			} else {
+				node(args, sink);
+			}
+			sink.close();
+			node(map.get("over"), sink);
+			break;
+		case "aggr_func":
+			aggregate(map, sink);
+			break;
+		case "case":
+			sink.keyword("CASE");
+			node(map.get("expr"), sink);
+			for (Object arm : (List<?>) map.get("args")) {
+				Map<?, ?> branch = (Map<?, ?>) arm;
+				if ("when".equals(branch.get("type"))) {
+					sink.keyword("WHEN");
+					node(branch.get("cond"), sink);
+					sink.keyword("THEN");
+				} else {
+					sink.keyword("ELSE");
+				}
+				node(branch.get("result"), sink);
+			}
+			sink.keyword("END");
+			break;
+		case "cast":
+			sink.keyword("CAST");
+			sink.args();
+			node(map.get("expr"), sink);
+			sink.keyword("AS");
+			dataType(map.get("target"), sink);
+			sink.close();
+			break;
+		case "interval":
+			sink.keyword("INTERVAL");
+			node(map.get("expr"), sink);
+			sink.keyword((String) map.get("unit"));
+			break;
+		case "window":
+			window(map, sink);
+			break;
+		case "unnest":
+			sink.keyword("UNNEST");
+			sink.args();
+			node(map.get("expr"), sink);
+			sink.close();
+			tableAlias(map.get("as"), sink);
+			break;
+		case "except":
+			sink.word("*");
+			sink.keyword("EXCEPT");
+			sink.open();
+			fields((List<?>) map.get("expr_list"), sink);
+			sink.close();
+			break;
+		default:
+			throw new IllegalArgumentException(
+					"cannot canonicalize " + (name.isEmpty() ? "node " + map.keySet() : name + " node"));
+		}
+	}
+
+	private void bigquery(Map<?, ?> map, TokenSink sink) {
+		Object with = map.get("with");
+		if (with instanceof List) {
+			sink.keyword("WITH");
+			boolean first = true;
+			for (Object item : (List<?>) with) {
+				if (!first) {
+					sink.comma();
+				}
+				first = false;
+				Map<?, ?> cte = (Map<?, ?>) item;
+				Object name = cte.get("name");
+				node(name instanceof Map ? ((Map<?, ?>) name).get("value") : name, sink);
+				sink.keyword("AS");
+				Object stmt = cte.get("stmt");
+				if (stmt instanceof Map && ((Map<?, ?>) stmt).containsKey("ast")) {
+					node(stmt, sink);
+				} else {
+					sink.open();
+					node(stmt, sink);
+					sink.close();
+				}
+			}
+		}
+		boolean parens = Boolean.TRUE.equals(map.get("parentheses"));
+		if (parens) {
+			sink.open();
+		}
+		node(map.get("select"), sink);
+		if (parens) {
+			sink.close();
+		}
+		orderLimit(map, sink);
+	}
+
+	private void subquery(Map<?, ?> wrapper, TokenSink sink) {
+		Map<String, Integer> outerColumns = columnAliases;
+		boolean outerResolve = resolveColumnAliases;
+		resolveColumnAliases = false;
+		sink.open();
+		node(wrapper.get("ast"), sink);
+		sink.close();
+		columnAliases = outerColumns;
+		resolveColumnAliases = outerResolve;
+	}
+
+	private void select(Map<?, ?> map, TokenSink sink) {
+		Map<String, Integer> scope = new HashMap<>();
+		tableScopes.push(scope);
+		Map<String, Integer> outerColumns = columnAliases;
+		columnAliases = new HashMap<>();
+		try {
+			// aliases are numbered in FROM order, but the select list that uses them comes first
+			Object from = map.get("from");
+			if (from instanceof List) {
+				for (Object item : (List<?>) from) {
+					Object alias = item instanceof Map ? ((Map<?, ?>) item).get("as") : null;
+					if (alias instanceof String && !scope.containsKey(alias)) {
+						scope.put((String) alias, ++tableCount);
+					}
+				}
+			}
+
+			sink.keyword("SELECT");
+			if (map.get("distinct") != null) {
+				sink.keyword("DISTINCT");
+			}
+			Object columns = map.get("columns");
+			if (columns instanceof List) {
+				boolean first = true;
+				for (Object item : (List<?>) columns) {
+					if (!first) {
+						sink.comma();
+					}
+					first = false;
+					Map<?, ?> column = (Map<?, ?>) item;
+					node(column.get("expr"), sink);
+					Object alias = column.get("as");
+					if (alias instanceof String) {
+						int n = columnAliases.computeIfAbsent(((String) alias).toLowerCase(), k -> ++columnCount);
+						sink.keyword("AS");
+						sink.numbered('c', n);
+					}
+				}
+			} else {
+				node(columns, sink);
+			}
+
+			if (from instanceof List) {
+				sink.keyword("FROM");
+				fromItems((List<?>) from, sink);
+			}
+			clause("WHERE", map.get("where"), sink);
+
+			resolveColumnAliases = true;
+			Object groupby = map.get("groupby");
+			if (groupby != null) {
+				sink.keyword("GROUP");
+				sink.keyword("BY");
+				if (groupby instanceof List) {
+					boolean first = true;
+					for (Object item : (List<?>) groupby) {
+						if (!first) {
+							sink.comma();
+						}
+						first = false;
+						ordinal(item, sink);
+					}
+				} else {
+					ordinal(groupby, sink);
+				}
+			}
+			clause("HAVING", map.get("having"), sink);
+			orderLimit(map, sink);
+			resolveColumnAliases = false;
+		} finally {
+			columnAliases = outerColumns;
+			tableScopes.pop();
+		}
+
+		Object next = map.get("_next");
+		if (next != null) {
+			sink.keyword((String) map.get("set"));
+			node(next, sink);
+		}
+	}
+
+	private void orderLimit(Map<?, ?> map, TokenSink sink) {
+		Object orderby = map.get("orderby");
+		if (orderby instanceof List) {
+			sink.keyword("ORDER");
+			sink.keyword("BY");
+			orderItems((List<?>) orderby, sink);
+		}
+		Object limit = map.get("limit");
+		if (limit instanceof Map) {
+			List<?> values = (List<?>) ((Map<?, ?>) limit).get("value");
+			if (values != null && !values.isEmpty()) {
+				sink.keyword("LIMIT");
+				sink.placeholder();
+				if (values.size() > 1) {
+					sink.keyword("OFFSET");
+					sink.placeholder();
+				}
+			}
+		}
+	}
+
+	private void orderItems(List<?> items, TokenSink sink) {
+		boolean first = true;
+		for (Object item : items) {
+			if (!first) {
+				sink.comma();
+			}
+			first = false;
+			Map<?, ?> order = (Map<?, ?>) item;
+			ordinal(order.get("expr"), sink);
+			Object direction = order.get("type");
+			if (direction instanceof String) {
+				sink.keyword((String) direction);
+			}
+		}
+	}
+
+	// GROUP BY 2 and ORDER BY 1 name output columns, so the number is part of the template
+	private void ordinal(Object expr, TokenSink sink) {
+		Object value = expr instanceof Map && "number".equals(((Map<?, ?>) expr).get("type"))
+				? ((Map<?, ?>) expr).get("value")
+				: null;
+		if (value instanceof Number && ((Number) value).doubleValue() == ((Number) value).longValue()) {
+			sink.word(Long.toString(((Number) value).longValue()));
+		} else {
+			node(expr, sink);
+		}
+	}
+
+	private void fromItems(List<?> items, TokenSink sink) {
+		boolean first = true;
+		for (Object item : items) {
+			Map<?, ?> from = (Map<?, ?>) item;
+			Object join = from.get("join");
+			if (join instanceof String) {
+				sink.keyword((String) join);
+			} else if (!first) {
+				sink.comma();
+			}
+			first = false;
+
+			if ("unnest".equals(from.get("type"))) {
+				node(from, sink);
+			} else if (from.get("expr") != null) {
+				node(from.get("expr"), sink);
+				tableAlias(from.get("as"), sink);
+			} else {
+				tableName(from, sink);
+				tableAlias(from.get("as"), sink);
+			}
+
+			if (from.get("on") != null) {
+				sink.keyword("ON");
+				node(from.get("on"), sink);
+			} else if (from.get("using") instanceof List) {
+				sink.keyword("USING");
+				sink.open();
+				list((List<?>) from.get("using"), sink);
+				sink.close();
+			}
+		}
+	}
+
+	private void tableName(Map<?, ?> table, TokenSink sink) {
+		Object db = table.get("db");
+		if (db instanceof CharSequence) {
+			sink.word((CharSequence) db);
+			sink.dot();
+		}
+		node(table.get("table"), sink);
+	}
+
+	private void tableAlias(Object alias, TokenSink sink) {
+		if (alias instanceof String) {
+			Integer n = lookupTable((String) alias);
+			sink.keyword("AS");
+			if (n != null) {
+				sink.numbered('t', n);
+			} else {
+				sink.word((String) alias);
+			}
+		}
+	}
+
+	private Integer lookupTable(String alias) {
+		for (Map<String, Integer> scope : tableScopes) {
+			Integer n = scope.get(alias);
+			if (n != null) {
+				return n;
+			}
+		}
+		return null;
+	}
+
+	private void columnRef(Map<?, ?> map, TokenSink sink) {
+		Object table = map.get("table");
+		Object column = map.get("column");
+		if (table instanceof String) {
+			Integer n = lookupTable((String) table);
+			if (n != null) {
+				sink.numbered('t', n);
+			} else {
+				sink.word((String) table);
+			}
+			sink.dot();
+		} else if (resolveColumnAliases && column instanceof String && columnAliases != null) {
+			Integer n = columnAliases.get(((String) column).toLowerCase());
+			if (n != null) {
+				sink.numbered('c', n);
+				return;
+			}
+		}
+		node(column, sink);
+	}
+
+	private void binary(Map<?, ?> map, TokenSink sink) {
+		String operator = (String) map.get("operator");
+		Object right = map.get("right");
+		node(map.get("left"), sink);
+		sink.keyword(operator);
+		if (isExprList(right) && ("BETWEEN".equalsIgnoreCase(operator) || "NOT BETWEEN".equalsIgnoreCase(operator))) {
+			List<?> bounds = (List<?>) ((Map<?, ?>) right).get("value");
+			node(bounds.get(0), sink);
+			sink.keyword("AND");
+			node(bounds.get(1), sink);
+		} else if (isExprList(right)) {
+			sink.open();
+			exprList((Map<?, ?>) right, sink);
+			sink.close();
+		} else {
+			node(right, sink);
+		}
+	}
+
+	// a list of nothing but literals shrinks to one placeholder, whatever its length
+	private void exprList(Map<?, ?> map, TokenSink sink) {
+		List<?> values = (List<?>) map.get("value");
+		if (values != null && !values.isEmpty() && allLiterals(values)) {
+			sink.placeholder();
+		} else if (values != null) {
+			list(values, sink);
+		}
+	}
+
+	// ARRAY<T>[...] and [...] collapse like IN lists; ARRAY(subquery) keeps its query
+	private void array(Map<?, ?> map, TokenSink sink) {
+		Object keyword = map.get("keyword");
+		boolean named = keyword instanceof String && !((String) keyword).isEmpty();
+		if (named) {
+			sink.keyword("ARRAY");
+		}
+		Object definition = map.get("definition");
+		if (definition instanceof Map) {
+			typeParameters((Map<?, ?>) definition, sink);
+		}
+		Object exprList = map.get("expr_list");
+		if (exprList instanceof Map && ((Map<?, ?>) exprList).containsKey("ast")) {
+			node(exprList, sink);
+			return;
+		}
+		// the typed form keeps its elements in expr_list: one expression, or parenthesised rows of them
+		List<Object> items = new ArrayList<>();
+		Object elements = exprList != null ? exprList : map.get("array_path");
+		if (elements instanceof List) {
+			for (Object item : (List<?>) elements) {
+				items.add(item instanceof Map && !((Map<?, ?>) item).containsKey("type") ? ((Map<?, ?>) item).get("expr")
+						: item);
+			}
+		} else if (elements != null) {
+			items.add(elements);
+		}
+		if (named || definition instanceof Map) {
+			sink.args('[');
+		} else {
+			sink.open('[');
+		}
+		if (!items.isEmpty() && allLiterals(items)) {
+			sink.placeholder();
+		} else if (!items.isEmpty() && literalRows(items)) {
+			// like VALUES, the first row stands for all
+			sink.open();
+			fields((List<?>) items.get(0), sink);
+			sink.close();
+		} else {
+			boolean first = true;
+			for (Object item : items) {
+				if (!first) {
+					sink.comma();
+				}
+				first = false;
+				if (item instanceof List) {
+					sink.open();
+					fields((List<?>) item, sink);
+					sink.close();
+				} else {
+					node(item, sink);
+				}
+			}
+		}
+		sink.close(']');
+	}
+
+	// STRUCT<T>(...) and STRUCT(... AS name); field names are part of the type, so they stay
+	private void struct(Map<?, ?> map, TokenSink sink) {
+		sink.keyword("STRUCT");
+		Object definition = map.get("definition");
+		if (definition instanceof Map) {
+			typeParameters((Map<?, ?>) definition, sink);
+		}
+		sink.args();
+		Object fields = map.get("expr_list");
+		if (fields instanceof List) {
+			fields((List<?>) fields, sink);
+		} else {
+			node(fields, sink);
+		}
+		sink.close();
+	}
+
+	private void fields(List<?> fields, TokenSink sink) {
+		boolean first = true;
+		for (Object item : fields) {
+			if (!first) {
+				sink.comma();
+			}
+			first = false;
+			if (!(item instanceof Map) || ((Map<?, ?>) item).containsKey("type")) {
+				node(item, sink);
+				continue;
+			}
+			Map<?, ?> field = (Map<?, ?>) item;
+			node(field.get("expr"), sink);
+			if (field.get("as") instanceof String) {
+				sink.keyword("AS");
+				sink.word((String) field.get("as"));
+			}
+		}
+	}
+
+	// INT64, STRING(10), ARRAY<STRUCT<x DATE>>
+	private void dataType(Object type, TokenSink sink) {
+		if (!(type instanceof Map)) {
+			node(type, sink);
+			return;
+		}
+		Map<?, ?> map = (Map<?, ?>) type;
+		Object name = map.get("dataType");
+		if (!(name instanceof String)) {
+			throw new IllegalArgumentException("cannot canonicalize data type " + map);
+		}
+		sink.keyword((String) name);
+		if (map.get("length") != null) {
+			sink.args();
+			sink.word(String.valueOf(map.get("length")));
+			sink.close();
+		}
+		if (map.get("definition") instanceof List) {
+			typeParameters(map, sink);
+		}
+	}
+
+	private void typeParameters(Map<?, ?> type, TokenSink sink) {
+		sink.args('<');
+		Object parameters = type.get("definition");
+		if (parameters instanceof List) {
+			boolean first = true;
+			for (Object item : (List<?>) parameters) {
+				if (!first) {
+					sink.comma();
+				}
+				first = false;
+				Map<?, ?> parameter = (Map<?, ?>) item;
+				if (parameter.get("field_name") instanceof String) {
+					sink.word((String) parameter.get("field_name"));
+				}
+				dataType(parameter.get("field_type"), sink);
+			}
+		}
+		sink.close('>');
+	}
+
+	private void aggregate(Map<?, ?> map, TokenSink sink) {
+		sink.keyword((String) map.get("name"));
+		sink.args();
+		Object args = map.get("args");
+		if (args instanceof Map) {
+			Map<?, ?> arg = (Map<?, ?>) args;
+			if (arg.get("distinct") != null) {
+				sink.keyword("DISTINCT");
+			}
+			node(arg.get("expr"), sink);
+		}
+		sink.close();
+		node(map.get("over"), sink);
+	}
+
+	private void window(Map<?, ?> map, TokenSink sink) {
+		sink.keyword("OVER");
+		Object spec = map.get("as_window_specification");
+		if (!(spec instanceof Map)) {
+			node(spec, sink);
+			return;
+		}
+		Object inner = ((Map<?, ?>) spec).get("window_specification");
+		if (!(inner instanceof Map)) {
+			node(spec, sink);
+			return;
+		}
+		Map<?, ?> window = (Map<?, ?>) inner;
+		sink.open();
+		node(window.get("name"), sink);
+		Object partition = window.get("partitionby");
+		if (partition instanceof List) {
+			sink.keyword("PARTITION");
+			sink.keyword("BY");
+			orderItems((List<?>) partition, sink);
+		}
+		Object order = window.get("orderby");
+		if (order instanceof List) {
+			sink.keyword("ORDER");
+			sink.keyword("BY");
+			orderItems((List<?>) order, sink);
+		}
+		node(window.get("window_frame_clause"), sink);
+		sink.close();
+	}
+
+	private void insert(Map<?, ?> map, TokenSink sink) {
+		sink.keyword((String) map.get("type"));
+		sink.keyword("INTO");
+		tables(map.get("table"), sink);
+		Object columns = map.get("columns");
+		if (columns instanceof List) {
+			sink.open();
+			list((List<?>) columns, sink);
+			sink.close();
+		}
+		Object values = map.get("values");
+		if (values instanceof List) {
+			sink.keyword("VALUES");
+			List<?> rows = (List<?>) values;
+			// literal rows differ only in count and content, so the first stands for all
+			boolean literalRows = true;
+			for (Object row : rows) {
+				literalRows &= isExprList(row) && allLiterals((List<?>) ((Map<?, ?>) row).get("value"));
+			}
+			if (literalRows && !rows.isEmpty()) {
+				sink.open();
+				list((List<?>) ((Map<?, ?>) rows.get(0)).get("value"), sink);
+				sink.close();
+			} else {
+				node(rows, sink);
+			}
+		} else {
+			node(values, sink);
+		}
+	}
+
+	private void update(Map<?, ?> map, TokenSink sink) {
+		sink.keyword("UPDATE");
+		tables(map.get("table"), sink);
+		sink.keyword("SET");
+		boolean first = true;
+		for (Object item : (List<?>) map.get("set")) {
+			if (!first) {
+				sink.comma();
+			}
+			first = false;
+			Map<?, ?> set = (Map<?, ?>) item;
+			node(set.get("column"), sink);
+			sink.word("=");
+			node(set.get("value"), sink);
+		}
+		clause("WHERE", map.get("where"), sink);
+		orderLimit(map, sink);
+	}
+
+	private void delete(Map<?, ?> map, TokenSink sink) {
+		sink.keyword("DELETE");
+		sink.keyword("FROM");
+		Object from = map.get("from");
+		tables(from != null ? from : map.get("table"), sink);
+		clause("WHERE", map.get("where"), sink);
+		orderLimit(map, sink);
+	}
+
+	private void tables(Object tables, TokenSink sink) {
+		if (!(tables instanceof List)) {
+			node(tables, sink);
+			return;
+		}
+		Map<String, Integer> scope = tableScopes.peek();
+		for (Object item : (List<?>) tables) {
+			Object alias = item instanceof Map ? ((Map<?, ?>) item).get("as") : null;
+			if (alias instanceof String) {
+				scope.putIfAbsent((String) alias, ++tableCount);
+			}
+		}
+		fromItems((List<?>) tables, sink);
+	}
+
+	private void clause(String keyword, Object expr, TokenSink sink) {
+		if (expr != null) {
+			sink.keyword(keyword);
+			node(expr, sink);
+		}
+	}
+
+
+	private void list(List<?> items, TokenSink sink) {
+		boolean first = true;
+		for (Object item : items) {
+			if (!first) {
+				sink.comma();
+			}
+			first = false;
+			node(item, sink);
+		}
+	}
+
+	private static boolean isExprList(Object node) {
+		return node instanceof Map && "expr_list".equals(((Map<?, ?>) node).get("type"));
+	}
+
+	private static boolean literalRows(List<?> rows) {
+		for (Object row : rows) {
+			if (!(row instanceof List)) {
+				return false;
+			}
+			List<Object> values = new ArrayList<>();
+			for (Object field : (List<?>) row) {
+				values.add(field instanceof Map ? ((Map<?, ?>) field).get("expr") : field);
+			}
+			if (!allLiterals(values)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static boolean allLiterals(List<?> values) {
+		if (values == null) {
+			return false;
+		}
+		for (Object value : values) {
+			if (!(value instanceof Map)) {
+				return false;
+			}
+			if (!LITERALS.contains(((Map<?, ?>) value).get("type"))) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+}
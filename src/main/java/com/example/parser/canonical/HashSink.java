@@ -0,0 +1,33 @@
+package com.example.parser.canonical;
+
+/**
+ * 64-bit FNV-1a over the UTF-16 code units of the canonical text, fed one
+ * character at a time, so {@code hash(ast)} equals {@link #hash(CharSequence)}
+ * of the canonical SQL without that string ever being built.
+ */
+public class HashSink extends TokenSink {
+
+	private static final long OFFSET_BASIS = 0xcbf29ce484222325L;
+	private static final long PRIME = 0x100000001b3L;
+
+	private long hash = OFFSET_BASIS;
+
+	@Override
+	protected void append(char c) {
+		hash = (hash ^ (c & 0xff)) * PRIME;
+		hash = (hash ^ (c >>> 8)) * PRIME;
+	}
+
+	public long getHash() {
+		return hash;
+	}
+
+	public static long hash(CharSequence text) {
+		HashSink sink = new HashSink();
+		for (int i = 0; i < text.length(); i++) {
+			sink.append(text.charAt(i));
+		}
+		return sink.hash;
+	}
+
+}
@@ -0,0 +1,17 @@
+package com.example.parser.canonical;
+
+public class TextSink extends TokenSink {
+
+	private final StringBuilder text = new StringBuilder(128);
+
+	@Override
+	protected void append(char c) {
+		text.append(c);
+	}
+
+	@Override
+	public String toString() {
+		return text.toString();
+	}
+
+}
@@ -0,0 +1,102 @@
+package com.example.parser.canonical;
+
+/**
+ * Receives the canonical token stream and owns the spacing rules, so every
+ * sink sees exactly the same characters: one space between tokens, none
+ * after an opening bracket or {@code .}, none before a closing bracket,
+ * {@code ,} or {@code .}, and none before the {@code (} of a call or the
+ * {@code <} of a parameterised type.
+ */
+public abstract class TokenSink {
+
+	private boolean space;
+
+	protected abstract void append(char c);
+
+	/** Identifier or operator, written as is. */
+	public void word(CharSequence text) {
+		separate();
+		for (int i = 0; i < text.length(); i++) {
+			append(text.charAt(i));
+		}
+	}
+
+	/** Keyword, written upper case whatever the source spelling. */
+	public void keyword(CharSequence text) {
+		separate();
+		for (int i = 0; i < text.length(); i++) {
+			append(Character.toUpperCase(text.charAt(i)));
+		}
+	}
+
+	/** Positional name such as {@code t3}, written without building it first. */
+	public void numbered(char prefix, int n) {
+		separate();
+		append(prefix);
+		if (n >= 10) {
+			int div = 1;
+			while (n / div >= 10) {
+				div *= 10;
+			}
+			for (; div > 0; div /= 10) {
+				append((char) ('0' + n / div % 10));
+			}
+		} else {
+			append((char) ('0' + n));
+		}
+	}
+
+	public void placeholder() {
+		separate();
+		append('?');
+	}
+
+	public void open() {
+		open('(');
+	}
+
+	/** Opening bracket such as {@code (} or {@code [}. */
+	public void open(char bracket) {
+		separate();
+		append(bracket);
+		space = false;
+	}
+
+	/** Opening parenthesis of a function call, written against its name. */
+	public void args() {
+		args('(');
+	}
+
+	/** Opening bracket written against the previous token, as in {@code ARRAY<}. */
+	public void args(char bracket) {
+		append(bracket);
+		space = false;
+	}
+
+	public void close() {
+		close(')');
+	}
+
+	public void close(char bracket) {
+		append(bracket);
+		space = true;
+	}
+
+	public void comma() {
+		append(',');
+		space = true;
+	}
+
+	public void dot() {
+		append('.');
+		space = false;
+	}
+
+	private void separate() {
+		if (space) {
+			append(' ');
+		}
+		space = true;
+	}
+
+}
@@ -0,0 +1,171 @@
+package com.example.parser.cli;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.example.parser.bench.Corpus;
+import com.example.parser.engine.GraalParser;
+import com.example.parser.engine.GrammarMode;
+import com.example.parser.engine.ParseResult;
+import com.example.parser.engine.ParserEngine;
+import com.example.parser.engine.ParserEngines;
+import com.example.parser.util.Json;
+
+/**
+ * Parses ';'-terminated statements from a file or stdin and prints one JSON
+ * result per line. This is the entry point of the native executable built by
+ * the {@code native} profile; {@code --timing} reports process start to main,
+ * engine setup, first-parse latency and peak RSS on stderr for comparing it
+ * with the JVM build.
+ *
+ * <pre>
+ * ParserCli [--engine graal] [--mode full|metadata] [--timing] [file.sql | -]
+ * </pre>
+ */
+public class ParserCli {
+
+	public static void main(String[] args) throws Exception {
+		double startupMs = sinceProcessStart();
+		String engineName = ParserEngines.GRAAL;
+		GrammarMode mode = GrammarMode.FULL;
+		boolean timing = false;
+		String file = "-";
+
+		for (int i = 0; i < args.length; i++) {
+			switch (args[i]) {
+			case "--engine":
+				engineName = args[++i];
+				break;
+			case "--mode":
+				// Grammars ships only the full and metadata ES6 grammars
+				mode = GrammarMode.valueOf(args[++i].toUpperCase());
+				if (mode != GrammarMode.FULL && mode != GrammarMode.METADATA) {
+					throw new IllegalArgumentException("--mode must be full or metadata");
+				}
+				break;
+			case "--timing":
+				timing = true;
+				break;
+			default:
+				if (args[i].startsWith("--")) {
+					throw new IllegalArgumentException("unknown option " + args[i]);
+				}
+				file = args[i];
+			}
+		}
+
+		List<String> statements = Corpus.split(read(file));
+		PrintStream out = new PrintStream(System.out, false, "UTF-8");
+		long firstNanos = 0;
+
+		long setupNanos = System.nanoTime();
+		try (ParserEngine engine = create(engineName, mode)) {
+			setupNanos = System.nanoTime() - setupNanos;
+			for (int i = 0; i < statements.size(); i++) {
+				long start = System.nanoTime();
+				ParseResult result;
+				try {
+					result = engine.parseResult(statements.get(i));
+				} catch (Exception e) {
+					result = ParseResult.failure(e);
+				}
+				if (i == 0) {
+					firstNanos = System.nanoTime() - start;
+				}
+				Map<String, Object> line = new LinkedHashMap<>();
+				line.put("id", i);
+				line.putAll(result.toMap());
+				out.println(Json.write(line));
+			}
+		}
+		out.flush();
+
+		if (timing) {
+			Map<String, Object> report = new LinkedHashMap<>();
+			report.put("startupMs", startupMs);
+			report.put("setupMs", setupNanos / 1e6);
+			report.put("firstParseMs", firstNanos / 1e6);
+			report.put("totalMs", sinceProcessStart());
+			report.put("peakRssKb", peakRssKb());
+			report.put("statements", statements.size());
+			System.err.println(Json.write(report));
+		}
+	}
+
+	private static ParserEngine create(String engineName, GrammarMode mode) throws Exception {
+		if (ParserEngines.GRAAL.equals(engineName)) {
+			return new GraalParser(mode + ":" + ParserEngines.ES6_GRAMMAR, Grammars.es6(mode));
+		}
+		return ParserEngines.create(engineName, mode);
+	}
+
+	// -1 where the platform cannot tell when the process started
+	private static double sinceProcessStart() {
+		return ProcessHandle.current().info().startInstant()
+				.map(start -> Duration.between(start, Instant.now()).toNanos() / 1e6).orElse(-1.0);
+	}
+
+	// high-water resident set from /proc, -1 elsewhere
+	private static long peakRssKb() {
+		try {
+			for (String line : Files.readAllLines(Paths.get("/proc/self/status"))) {
+				if (line.startsWith("VmHWM:")) {
+					return Long.parseLong(line.replaceAll("[^0-9]", ""));
+				}
+			}
+		} catch (IOException | NumberFormatException e) {
+			// not Linux
+		}
+		return -1;
+	}
+
+	private static String read(String file) throws IOException {
+		if (!"-".equals(file)) {
+			return new String(Files.readAllBytes(Paths.get(file)), StandardCharsets.UTF_8);
+		}
+		InputStream in = System.in;
+		ByteArrayOutputStream body = new ByteArrayOutputStream();
+		byte[] buffer = new byte[8192];
+		for (int n; (n = in.read(buffer)) > 0;) {
+			body.write(buffer, 0, n);
+		}
+		return new String(body.toByteArray(), StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * Grammar text captured when the class is initialized. The native image
+	 * initializes it at build time, so the executable starts with both
+	 * variants already in its heap and never touches the resources.
+	 */
+	static final class Grammars {
+
+		private static final String ES6_FULL = load(GrammarMode.FULL);
+		private static final String ES6_METADATA = load(GrammarMode.METADATA);
+
+		private Grammars() {
+		}
+
+		static String es6(GrammarMode mode) {
+			return mode == GrammarMode.METADATA ? ES6_METADATA : ES6_FULL;
+		}
+
+		private static String load(GrammarMode mode) {
+			try {
+				return mode.load(ParserEngines.ES6_GRAMMAR);
+			} catch (IOException e) {
+				throw new IllegalStateException(e);
+			}
+		}
+	}
+
+}
@@ -0,0 +1,71 @@
+package com.example.parser.decode;
+
+import java.util.Objects;
+
+/**
+ * One decoded tableList or columnList entry. Table entries carry a db and no
+ * column; column entries carry a column and no db. Literal {@code null} parts
+ * decode to {@code null} and the {@code (.*)} column of {@code SELECT *} or an
+ * insert without a column list decodes to {@link #WILDCARD}.
+ */
+public final class Entry {
+
+	public static final String WILDCARD = "(.*)";
+
+	private final Operation operation;
+	private final String db;
+	private final String table;
+	private final String column;
+
+	public Entry(Operation operation, String db, String table, String column) {
+		this.operation = operation;
+		this.db = db;
+		this.table = table;
+		this.column = column;
+	}
+
+	public Operation getOperation() {
+		return operation;
+	}
+
+	public String getDb() {
+		return db;
+	}
+
+	public String getTable() {
+		return table;
+	}
+
+	public String getColumn() {
+		return column;
+	}
+
+	public boolean isColumn() {
+		return column != null;
+	}
+
+	public boolean isWildcard() {
+		return WILDCARD.equals(column);
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (!(o instanceof Entry)) {
+			return false;
+		}
+		Entry other = (Entry) o;
+		return operation == other.operation && Objects.equals(db, other.db) && Objects.equals(table, other.table)
+				&& Objects.equals(column, other.column);
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(operation, db, table, column);
+	}
+
+	@Override
+	public String toString() {
+		return operation.name().toLowerCase() + "::" + (isColumn() ? table + "::" + column : db + "::" + table);
+	}
+
+}
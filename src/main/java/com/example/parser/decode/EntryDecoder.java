@@ -0,0 +1,113 @@
+package com.example.parser.decode;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import com.example.parser.engine.ParseResult;
+
+/**
+ * Decodes the {@code op::db::table} and {@code op::table::column} strings the
+ * grammar emits without splitting them. Delimiters are located in place and
+ * every part is interned from its character range through a shared
+ * {@link NamePool}, so steady-state decoding only allocates the {@link Entry}.
+ */
+public class EntryDecoder {
+
+	private static final String NULL = "null";
+
+	private final NamePool pool;
+
+	public EntryDecoder() {
+		this(new NamePool());
+	}
+
+	public EntryDecoder(NamePool pool) {
+		this.pool = pool;
+	}
+
+	public NamePool getPool() {
+		return pool;
+	}
+
+	public Entry decodeTable(CharSequence encoded) {
+		int first = firstDelimiter(encoded);
+		int last = lastDelimiter(encoded, first);
+		return new Entry(Operation.of(encoded, 0, first), part(encoded, first + 2, last),
+				part(encoded, last + 2, encoded.length()), null);
+	}
+
+	public Entry decodeColumn(CharSequence encoded) {
+		int first = firstDelimiter(encoded);
+		int last = lastDelimiter(encoded, first);
+		return new Entry(Operation.of(encoded, 0, first), null, part(encoded, first + 2, last),
+				part(encoded, last + 2, encoded.length()));
+	}
+
+	public List<Entry> tables(List<? extends CharSequence> tableList) {
+		List<Entry> entries = new ArrayList<>(tableList.size());
+		forEachTable(tableList, entries::add);
+		return entries;
+	}
+
+	public List<Entry> columns(List<? extends CharSequence> columnList) {
+		List<Entry> entries = new ArrayList<>(columnList.size());
+		forEachColumn(columnList, entries::add);
+		return entries;
+	}
+
+	public List<Entry> decode(ParseResult result) {
+		List<Entry> entries = new ArrayList<>(result.getTableList().size() + result.getColumnList().size());
+		forEachTable(result.getTableList(), entries::add);
+		forEachColumn(result.getColumnList(), entries::add);
+		return entries;
+	}
+
+	public void forEachTable(List<? extends CharSequence> tableList, Consumer<Entry> consumer) {
+		for (int i = 0; i < tableList.size(); i++) {
+			consumer.accept(decodeTable(tableList.get(i)));
+		}
+	}
+
+	public void forEachColumn(List<? extends CharSequence> columnList, Consumer<Entry> consumer) {
+		for (int i = 0; i < columnList.size(); i++) {
+			consumer.accept(decodeColumn(columnList.get(i)));
+		}
+	}
+
+	private String part(CharSequence encoded, int start, int end) {
+		return isNull(encoded, start, end) ? null : pool.intern(encoded, start, end);
+	}
+
+	private static boolean isNull(CharSequence encoded, int start, int end) {
+		if (end - start != NULL.length()) {
+			return false;
+		}
+		for (int i = 0; i < NULL.length(); i++) {
+			if (encoded.charAt(start + i) != NULL.charAt(i)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static int firstDelimiter(CharSequence encoded) {
+		for (int i = 0; i + 1 < encoded.length(); i++) {
+			if (encoded.charAt(i) == ':' && encoded.charAt(i + 1) == ':') {
+				return i;
+			}
+		}
+		throw new IllegalArgumentException("not an encoded entry : " + encoded);
+	}
+
+	// the middle part may itself be empty, so search back to just past the first delimiter
+	private static int lastDelimiter(CharSequence encoded, int first) {
+		for (int i = encoded.length() - 2; i >= first + 2; i--) {
+			if (encoded.charAt(i) == ':' && encoded.charAt(i + 1) == ':') {
+				return i;
+			}
+		}
+		throw new IllegalArgumentException("not an encoded entry : " + encoded);
+	}
+
+}
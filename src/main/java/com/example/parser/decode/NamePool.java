@@ -0,0 +1,118 @@
+package com.example.parser.decode;
+
+/**
+ * Interns names straight from a character range of a larger sequence. A hit
+ * compares the range against the pooled string in place and returns it, so
+ * names already seen cost no substring and no allocation.
+ * <p>
+ * Lookups are lock free; misses insert under the pool lock. The pooled
+ * strings carry their own cached {@link String#hashCode()}, which is the same
+ * polynomial computed over the range, so no separate hash table is kept.
+ */
+public class NamePool {
+
+	private static final int MAX_LOAD_PERCENT = 60;
+
+	private volatile String[] names;
+	private int size;
+
+	public NamePool() {
+		this(1024);
+	}
+
+	public NamePool(int expectedNames) {
+		int capacity = 16;
+		while (capacity * MAX_LOAD_PERCENT / 100 < expectedNames) {
+			capacity <<= 1;
+		}
+		this.names = new String[capacity];
+	}
+
+	public String intern(CharSequence text) {
+		return intern(text, 0, text.length());
+	}
+
+	public String intern(CharSequence text, int start, int end) {
+		int hash = hash(text, start, end);
+		String found = find(names, text, start, end, hash);
+		return found != null ? found : insert(text, start, end, hash);
+	}
+
+	public synchronized int size() {
+		return size;
+	}
+
+	private synchronized String insert(CharSequence text, int start, int end, int hash) {
+		String[] table = names;
+		String found = find(table, text, start, end, hash);
+		if (found != null) {
+			return found;
+		}
+		if ((size + 1) * 100 > table.length * MAX_LOAD_PERCENT) {
+			table = grow(table);
+		}
+		String name = text.subSequence(start, end).toString();
+		put(table, name);
+		size++;
+		names = table;
+		return name;
+	}
+
+	private static String find(String[] table, CharSequence text, int start, int end, int hash) {
+		int mask = table.length - 1;
+		for (int i = mix(hash) & mask;; i = (i + 1) & mask) {
+			String name = table[i];
+			if (name == null) {
+				return null;
+			}
+			if (name.hashCode() == hash && regionEquals(name, text, start, end)) {
+				return name;
+			}
+		}
+	}
+
+	private static void put(String[] table, String name) {
+		int mask = table.length - 1;
+		int i = mix(name.hashCode()) & mask;
+		while (table[i] != null) {
+			i = (i + 1) & mask;
+		}
+		table[i] = name;
+	}
+
+	// readers keep probing the old table until the new one is published whole
+	private static String[] grow(String[] table) {
+		String[] grown = new String[table.length << 1];
+		for (String name : table) {
+			if (name != null) {
+				put(grown, name);
+			}
+		}
+		return grown;
+	}
+
+	private static boolean regionEquals(String name, CharSequence text, int start, int end) {
+		if (name.length() != end - start) {
+			return false;
+		}
+		for (int i = 0; i < name.length(); i++) {
+			if (name.charAt(i) != text.charAt(start + i)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static int hash(CharSequence text, int start, int end) {
+		int h = 0;
+		for (int i = start; i < end; i++) {
+			h = 31 * h + text.charAt(i);
+		}
+		return h;
+	}
+
+	private static int mix(int h) {
+		return h ^ (h >>> 16);
+	}
+
+}
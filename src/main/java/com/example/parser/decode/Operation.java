@@ -0,0 +1,36 @@
+package com.example.parser.decode;
+
+/**
+ * Statement kind prefixed to every tableList/columnList entry. Statement
+ * actions that echo the matched keyword keep its original case, so matching
+ * is case-insensitive.
+ */
+public enum Operation {
+
+	SELECT, INSERT, REPLACE, UPDATE, DELETE, CREATE, ALTER, DROP, TRUNCATE, RENAME, LOCK, USE, UNKNOWN;
+
+	private static final Operation[] KNOWN = { SELECT, INSERT, REPLACE, UPDATE, DELETE, CREATE, ALTER, DROP,
+			TRUNCATE, RENAME, LOCK, USE };
+
+	public static Operation of(CharSequence text, int start, int end) {
+		for (Operation op : KNOWN) {
+			if (matches(op.name(), text, start, end)) {
+				return op;
+			}
+		}
+		return UNKNOWN;
+	}
+
+	private static boolean matches(String name, CharSequence text, int start, int end) {
+		if (end - start != name.length()) {
+			return false;
+		}
+		for (int i = 0; i < name.length(); i++) {
+			if (Character.toUpperCase(text.charAt(start + i)) != name.charAt(i)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+}
@@ -0,0 +1,156 @@
+package com.example.parser.engine;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.antlr.v4.runtime.Lexer;
+import org.antlr.v4.runtime.Parser;
+import org.antlr.v4.runtime.atn.ATN;
+import org.antlr.v4.runtime.atn.LexerATNSimulator;
+import org.antlr.v4.runtime.atn.ParserATNSimulator;
+import org.antlr.v4.runtime.atn.PredictionContextCache;
+import org.antlr.v4.runtime.dfa.DFA;
+import org.antlr.v4.runtime.dfa.DFAState;
+
+/**
+ * Shared DFA / prediction context cache for one ATN. Simulators handed out
+ * keep the arrays they were created with, so a reset swaps in a fresh
+ * snapshot without disturbing parses that are already running.
+ */
+public class ANTLRCache implements AutoCloseable {
+
+	private static final int CHECK_INTERVAL = 64;
+
+	// rough per-object sizes used for memory accounting
+	private static final long STATE_BYTES = 96;
+	private static final long CONFIG_BYTES = 48;
+	private static final long CONTEXT_BYTES = 64;
+
+	private final ATN atn;
+	private final int maxStates;
+	private final AtomicReference<Snapshot> snapshot;
+	private final AtomicLong checkouts = new AtomicLong();
+	private final AtomicLong resets = new AtomicLong();
+	private ScheduledExecutorService scheduler;
+	private ScheduledFuture<?> periodicReset;
+
+	public ANTLRCache(ATN atn) {
+		this(atn, 0);
+	}
+
+	public ANTLRCache(ATN atn, int maxStates) {
+		this.atn = atn;
+		this.maxStates = maxStates;
+		this.snapshot = new AtomicReference<>(new Snapshot(atn));
+	}
+
+	public ParserATNSimulator parserSimulator(Parser parser) {
+		Snapshot s = checkout();
+		return new ParserATNSimulator(parser, atn, s.decisionToDFA, s.contextCache);
+	}
+
+	public LexerATNSimulator lexerSimulator(Lexer lexer) {
+		Snapshot s = checkout();
+		return new LexerATNSimulator(lexer, atn, s.decisionToDFA, s.contextCache);
+	}
+
+	private Snapshot checkout() {
+		Snapshot s = snapshot.get();
+		if (maxStates > 0 && checkouts.incrementAndGet() % CHECK_INTERVAL == 0 && s.stateCount() > maxStates) {
+			if (snapshot.compareAndSet(s, new Snapshot(atn))) {
+				resets.incrementAndGet();
+			}
+			s = snapshot.get();
+		}
+		return s;
+	}
+
+	public void reset() {
+		snapshot.set(new Snapshot(atn));
+		resets.incrementAndGet();
+	}
+
+	/** Resets every {@code period}; a later call replaces the earlier schedule. */
+	public synchronized void schedulePeriodicReset(long period, TimeUnit unit) {
+		if (scheduler == null) {
+			scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+				Thread t = new Thread(r, "antlr-cache-reset");
+				t.setDaemon(true);
+				return t;
+			});
+		}
+		if (periodicReset != null) {
+			periodicReset.cancel(false);
+		}
+		periodicReset = scheduler.scheduleAtFixedRate(this::reset, period, period, unit);
+	}
+
+	public int getDFAStateCount() {
+		return snapshot.get().stateCount();
+	}
+
+	public int getContextCacheSize() {
+		return snapshot.get().contextCache.size();
+	}
+
+	public long getEstimatedBytes() {
+		Snapshot s = snapshot.get();
+		long bytes = s.contextCache.size() * CONTEXT_BYTES;
+		for (DFA dfa : s.decisionToDFA) {
+			synchronized (dfa.states) {
+				for (DFAState state : dfa.states.keySet()) {
+					bytes += STATE_BYTES + (state.configs != null ? state.configs.size() * CONFIG_BYTES : 0);
+				}
+			}
+		}
+		return bytes;
+	}
+
+	public long getResetCount() {
+		return resets.get();
+	}
+
+	@Override
+	public synchronized void close() {
+		if (scheduler != null) {
+			scheduler.shutdownNow();
+			scheduler = null;
+			periodicReset = null;
+		}
+	}
+
+	@Override
+	public String toString() {
+		return "ANTLRCache[decisions=" + atn.getNumberOfDecisions() + ", states=" + getDFAStateCount()
+				+ ", contexts=" + getContextCacheSize() + ", bytes=" + getEstimatedBytes() + ", resets="
+				+ getResetCount() + "]";
+	}
+
+	private static class Snapshot {
+
+		final DFA[] decisionToDFA;
+		final PredictionContextCache contextCache = new PredictionContextCache();
+
+		Snapshot(ATN atn) {
+			decisionToDFA = new DFA[atn.getNumberOfDecisions()];
+			for (int i = 0; i < decisionToDFA.length; i++) {
+				decisionToDFA[i] = new DFA(atn.getDecisionState(i), i);
+			}
+		}
+
+		int stateCount() {
+			int count = 0;
+			for (DFA dfa : decisionToDFA) {
+				synchronized (dfa.states) {
+					count += dfa.states.size();
+				}
+			}
+			return count;
+		}
+	}
+
+}
@@ -1,9 +1,65 @@
 package com.example.parser.engine;
 
+import java.lang.reflect.Method;
+import java.util.function.Function;
+
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.CharStreams;
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.Lexer;
+import org.antlr.v4.runtime.Parser;
+import org.antlr.v4.runtime.TokenStream;
+
 public class ANTLSQLParser {
 
+	private final Function<CharStream, Lexer> lexerFactory;
+	private final Function<TokenStream, Parser> parserFactory;
+	private final Method startRule;
+
+	private final ANTLRCache lexerCache;
+	private final ANTLRCache parserCache;
+
+	public ANTLSQLParser(Function<CharStream, Lexer> lexerFactory, Function<TokenStream, Parser> parserFactory,
+			String startRule) throws Exception {
+		this(lexerFactory, parserFactory, startRule, 0);
+	}
+
+	public ANTLSQLParser(Function<CharStream, Lexer> lexerFactory, Function<TokenStream, Parser> parserFactory,
+			String startRule, int maxDFAStates) throws Exception {
+		this.lexerFactory = lexerFactory;
+		this.parserFactory = parserFactory;
+
+		Lexer lexer = lexerFactory.apply(CharStreams.fromString(""));
+		Parser parser = parserFactory.apply(new CommonTokenStream(lexer));
+		this.startRule = parser.getClass().getMethod(startRule);
+		this.lexerCache = new ANTLRCache(lexer.getATN(), maxDFAStates);
+		this.parserCache = new ANTLRCache(parser.getATN(), maxDFAStates);
+	}
+
 	public Object parse(String sql) throws Exception {
-		return null;
+		Lexer lexer = lexerFactory.apply(CharStreams.fromString(sql));
+		lexer.setInterpreter(lexerCache.lexerSimulator(lexer));
+		Parser parser = parserFactory.apply(new CommonTokenStream(lexer));
+		parser.setInterpreter(parserCache.parserSimulator(parser));
+		return startRule.invoke(parser);
+	}
+
+	public void warmUp(Iterable<String> corpus) {
+		for (String sql : corpus) {
+			try {
+				parse(sql);
+			} catch (Exception e) {
+				// warm-up only cares about the DFA states the attempt leaves behind
+			}
+		}
+	}
+
+	public ANTLRCache getLexerCache() {
+		return lexerCache;
+	}
+
+	public ANTLRCache getParserCache() {
+		return parserCache;
 	}
 
 }
@@ -0,0 +1,255 @@
+package com.example.parser.engine;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.reactivestreams.Publisher;
+
+import com.example.parser.jfr.EngineRecycleEvent;
+import com.example.parser.jfr.ParserEvents;
+
+/**
+ * Non-blocking front end for {@link ParserEngine}s.
+ * <p>
+ * {@link #pinned} gives every worker thread its own engine, created and
+ * closed on that thread, which is what V8 requires. {@link #pooled} shares a
+ * fixed set of engines (Graal, Nashorn) between tasks. Completions are always
+ * delivered on the callback executor so caller continuations never run on an
+ * engine thread; with {@code virtualThreads} that executor, and the pooled
+ * task runner, use virtual threads when the JDK has them.
+ * <p>
+ * Engines in both modes are recycled by a {@link RecyclePolicy}: pooled ones
+ * through {@link EnginePool}, pinned ones by a recycler thread that builds and
+ * warms the replacement, releases it with {@link ParserEngine#releaseThread()}
+ * and leaves it for the worker to acquire at its next request. The old engine
+ * is handed back to the recycler to be closed, so a worker never stalls on an
+ * engine build or a warm-up run.
+ */
+public class AsyncParser implements AutoCloseable {
+
+	private final Callable<ParserEngine> factory;
+	private final RecyclePolicy policy;
+	private final ExecutorService workers;
+	private final ExecutorService callbacks;
+	private final EnginePool pool;
+	private final ThreadLocal<Pinned> pinnedEngine;
+	private final ExecutorService recycler;
+	private final AtomicLong pinnedRecycled = new AtomicLong();
+
+	private AsyncParser(Callable<ParserEngine> factory, RecyclePolicy policy, ExecutorService workers,
+			EnginePool pool, ThreadLocal<Pinned> pinnedEngine, boolean virtualThreads) {
+		this.factory = factory;
+		this.policy = policy;
+		this.workers = workers;
+		this.pool = pool;
+		this.pinnedEngine = pinnedEngine;
+		this.recycler = pool == null ? Executors.newSingleThreadExecutor(daemonThreads("engine-recycler")) : null;
+		this.callbacks = virtualThreads ? virtualThreadExecutor("parse-callback")
+				: Executors.newCachedThreadPool(daemonThreads("parse-callback"));
+	}
+
+	public static AsyncParser pinned(Callable<ParserEngine> factory, int threads, boolean virtualThreads) {
+		return pinned(factory, threads, virtualThreads, RecyclePolicy.NEVER);
+	}
+
+	public static AsyncParser pinned(Callable<ParserEngine> factory, int threads, boolean virtualThreads,
+			RecyclePolicy policy) {
+		ThreadLocal<Pinned> engine = new ThreadLocal<>();
+		AtomicInteger count = new AtomicInteger();
+
+		// the engine is created by the first task on a thread and closed when that thread exits
+		ThreadFactory threadFactory = r -> {
+			Thread t = new Thread(() -> {
+				try {
+					r.run();
+				} finally {
+					Pinned pinned = engine.get();
+					if (pinned != null) {
+						EnginePool.closeQuietly(pinned.engine);
+						if (pinned.replacement != null) {
+							pinned.replacement.thenAccept(AsyncParser::closeReleased);
+						}
+					}
+					engine.remove();
+				}
+			}, "parse-pinned-" + count.incrementAndGet());
+			t.setDaemon(true);
+			return t;
+		};
+
+		return new AsyncParser(factory, policy, Executors.newFixedThreadPool(threads, threadFactory), null, engine,
+				virtualThreads);
+	}
+
+	public static AsyncParser pooled(Callable<ParserEngine> factory, int size, boolean virtualThreads)
+			throws Exception {
+		return pooled(factory, size, virtualThreads, RecyclePolicy.NEVER);
+	}
+
+	public static AsyncParser pooled(Callable<ParserEngine> factory, int size, boolean virtualThreads,
+			RecyclePolicy policy) throws Exception {
+		ExecutorService workers = virtualThreads ? virtualThreadExecutor("parse-pooled")
+				: Executors.newFixedThreadPool(size, daemonThreads("parse-pooled"));
+		return new AsyncParser(factory, policy, workers, new EnginePool(factory, size, policy), null, virtualThreads);
+	}
+
+	public CompletionStage<ParseResult> parseAsync(String sql) {
+		return submit(engine -> engine.parseResult(sql));
+	}
+
+	public CompletionStage<List<ParseResult>> parseBatchAsync(List<String> statements) {
+		return submit(engine -> engine.parseBatch(statements));
+	}
+
+	public long getRecycleCount() {
+		return pool != null ? pool.getRecycleCount() : pinnedRecycled.get();
+	}
+
+	private <T> CompletionStage<T> submit(EnginePool.EngineCall<T> call) {
+		CompletableFuture<T> future = new CompletableFuture<>();
+		try {
+			workers.execute(() -> {
+				T result;
+				try {
+					result = pool != null ? pool.call(call) : callPinned(call);
+				} catch (Throwable e) {
+					callbacks.execute(() -> future.completeExceptionally(e));
+					recyclePinned();
+					return;
+				}
+				callbacks.execute(() -> future.complete(result));
+				recyclePinned();
+			});
+		} catch (Exception e) {
+			future.completeExceptionally(e);
+		}
+		return future;
+	}
+
+	private <T> T callPinned(EnginePool.EngineCall<T> call) throws Exception {
+		Pinned pinned = pinnedEngine.get();
+		if (pinned == null) {
+			pinned = new Pinned(factory.call());
+			pinnedEngine.set(pinned);
+		}
+		swapPinned(pinned);
+		pinned.parses++;
+		return call.apply(pinned.engine);
+	}
+
+	// at a request boundary; only an unhealthy engine waits for its replacement instead of serving on
+	private void swapPinned(Pinned pinned) {
+		CompletableFuture<ParserEngine> replacement = pinned.replacement;
+		if (replacement == null || (!replacement.isDone() && pinned.engine.isHealthy())) {
+			return;
+		}
+		pinned.replacement = null;
+		ParserEngine fresh = replacement.join();
+		if (fresh == null) {
+			return;
+		}
+		fresh.acquireThread();
+		ParserEngine old = pinned.engine;
+		pinned.engine = fresh;
+		pinned.parses = 0;
+		pinnedRecycled.incrementAndGet();
+		old.releaseThread();
+		recycler.execute(() -> closeReleased(old));
+	}
+
+	private void recyclePinned() {
+		Pinned pinned = pinnedEngine != null ? pinnedEngine.get() : null;
+		if (pinned == null || pinned.replacement != null || !policy.isDue(pinned.engine, pinned.parses)) {
+			return;
+		}
+		ParserEngine current = pinned.engine;
+		long parses = pinned.parses;
+		long retained = current.retainedHandles();
+		boolean leaking = policy.isLeaking(current);
+		if (leaking) {
+			System.err.println("engine retains " + retained + " handles after " + parses + " parses, recycling");
+		}
+		String reason = !current.isHealthy() ? "unhealthy" : leaking ? "leak" : "parses";
+		pinned.replacement = CompletableFuture.supplyAsync(() -> {
+			EngineRecycleEvent event = new EngineRecycleEvent();
+			event.begin();
+			try {
+				ParserEngine fresh = factory.call();
+				policy.warmUp(fresh);
+				fresh.releaseThread();
+				event.finish(current, reason, parses, retained, ParserEvents.SUCCESS);
+				return fresh;
+			} catch (Exception e) {
+				event.finish(current, reason, parses, retained, ParserEvents.FAILURE);
+				System.err.println("failed to create replacement engine : " + e);
+				return null;
+			}
+		}, recycler);
+	}
+
+	private static void closeReleased(ParserEngine engine) {
+		if (engine != null) {
+			engine.acquireThread();
+			EnginePool.closeQuietly(engine);
+		}
+	}
+
+	public Publisher<ParseResult> publish(Iterable<String> statements, int concurrency) {
+		return new ParsePublisher(this, statements, concurrency);
+	}
+
+	@Override
+	public void close() throws InterruptedException {
+		workers.shutdown();
+		workers.awaitTermination(30, TimeUnit.SECONDS);
+		callbacks.shutdown();
+		if (pool != null) {
+			pool.close();
+		}
+		if (recycler != null) {
+			recycler.shutdown();
+			recycler.awaitTermination(30, TimeUnit.SECONDS);
+		}
+	}
+
+	private static ThreadFactory daemonThreads(String prefix) {
+		AtomicInteger count = new AtomicInteger();
+		return r -> {
+			Thread t = new Thread(r, prefix + "-" + count.incrementAndGet());
+			t.setDaemon(true);
+			return t;
+		};
+	}
+
+	private static class Pinned {
+
+		ParserEngine engine;
+		long parses;
+		// built and warmed by the recycler, released from its thread; null result if the build failed
+		volatile CompletableFuture<ParserEngine> replacement;
+
+		Pinned(ParserEngine engine) {
+			this.engine = engine;
+		}
+	}
+
+	// virtual threads arrived in JDK 21; fall back to a cached pool on older runtimes
+	public static ExecutorService virtualThreadExecutor(String prefix) {
+		try {
+			Method method = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+			return (ExecutorService) method.invoke(null);
+		} catch (ReflectiveOperationException e) {
+			return Executors.newCachedThreadPool(daemonThreads(prefix));
+		}
+	}
+
+}
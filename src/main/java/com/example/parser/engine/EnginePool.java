@@ -0,0 +1,180 @@
+package com.example.parser.engine;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.example.parser.jfr.EngineCheckoutEvent;
+import com.example.parser.jfr.EngineRecycleEvent;
+import com.example.parser.jfr.ParserEvents;
+
+/**
+ * Fixed set of engines shared between threads, each recycled according to a
+ * {@link RecyclePolicy}.
+ * <p>
+ * A due engine keeps serving while a background thread builds and warms its
+ * replacement; the swap happens at the next checkout and the old engine is
+ * closed off the request path. Only an unhealthy engine is taken out of
+ * rotation until its replacement is ready.
+ */
+public class EnginePool implements AutoCloseable {
+
+	private final Callable<ParserEngine> factory;
+	private final RecyclePolicy policy;
+	private final BlockingQueue<Slot> idle;
+	private final List<Slot> slots = new ArrayList<>();
+	private final ExecutorService recycler;
+	private final AtomicLong recycled = new AtomicLong();
+	private final AtomicLong leaks = new AtomicLong();
+
+	public EnginePool(Callable<ParserEngine> factory, int size, RecyclePolicy policy) throws Exception {
+		this.factory = factory;
+		this.policy = policy;
+		this.idle = new ArrayBlockingQueue<>(size);
+		this.recycler = Executors.newSingleThreadExecutor(r -> {
+			Thread t = new Thread(r, "engine-recycler");
+			t.setDaemon(true);
+			return t;
+		});
+		for (int i = 0; i < size; i++) {
+			Slot slot = new Slot(factory.call());
+			slots.add(slot);
+			idle.add(slot);
+		}
+	}
+
+	public <T> T call(EngineCall<T> call) throws Exception {
+		Slot slot = checkout();
+		try {
+			return call.apply(slot.engine);
+		} finally {
+			checkin(slot);
+		}
+	}
+
+	public long getRecycleCount() {
+		return recycled.get();
+	}
+
+	public long getLeakCount() {
+		return leaks.get();
+	}
+
+	private Slot checkout() throws InterruptedException {
+		EngineCheckoutEvent event = new EngineCheckoutEvent();
+		event.begin();
+		int available = idle.size();
+		Slot slot;
+		try {
+			slot = idle.take();
+		} catch (InterruptedException e) {
+			event.finish(null, available, false, ParserEvents.FAILURE);
+			throw e;
+		}
+		ParserEngine next = slot.next;
+		event.finish(slot.engine, available, next != null, ParserEvents.SUCCESS);
+		if (next != null) {
+			ParserEngine old = slot.engine;
+			slot.engine = next;
+			slot.next = null;
+			slot.parses = 0;
+			slot.replacing = false;
+			recycler.execute(() -> closeQuietly(old));
+		}
+		return slot;
+	}
+
+	private void checkin(Slot slot) {
+		slot.parses++;
+		if (!slot.replacing && policy.isDue(slot.engine, slot.parses)) {
+			slot.replacing = true;
+			boolean leaking = policy.isLeaking(slot.engine);
+			if (leaking) {
+				leaks.incrementAndGet();
+				System.err.println("engine retains " + slot.engine.retainedHandles() + " handles after "
+						+ slot.parses + " parses, recycling");
+			}
+			boolean healthy = slot.engine.isHealthy();
+			String reason = !healthy ? "unhealthy" : leaking ? "leak" : "parses";
+			recycler.execute(() -> replace(slot, !healthy, reason));
+			if (!healthy) {
+				return;
+			}
+		}
+		idle.add(slot);
+	}
+
+	// runs on the recycler thread; an out-of-rotation slot is swapped here and put back
+	private void replace(Slot slot, boolean outOfRotation, String reason) {
+		EngineRecycleEvent event = new EngineRecycleEvent();
+		event.begin();
+		ParserEngine fresh;
+		try {
+			fresh = factory.call();
+			policy.warmUp(fresh);
+			event.finish(slot.engine, reason, slot.parses, slot.engine.retainedHandles(), ParserEvents.SUCCESS);
+		} catch (Exception e) {
+			event.finish(slot.engine, reason, slot.parses, slot.engine.retainedHandles(), ParserEvents.FAILURE);
+			System.err.println("failed to create replacement engine : " + e);
+			slot.replacing = false;
+			if (outOfRotation) {
+				idle.add(slot);
+			}
+			return;
+		}
+		recycled.incrementAndGet();
+		if (outOfRotation) {
+			ParserEngine old = slot.engine;
+			slot.engine = fresh;
+			slot.parses = 0;
+			slot.replacing = false;
+			closeQuietly(old);
+			idle.add(slot);
+		} else {
+			slot.next = fresh;
+		}
+	}
+
+	@Override
+	public void close() throws InterruptedException {
+		recycler.shutdown();
+		recycler.awaitTermination(30, TimeUnit.SECONDS);
+		for (Slot slot : slots) {
+			closeQuietly(slot.engine);
+			closeQuietly(slot.next);
+		}
+	}
+
+	static void closeQuietly(ParserEngine engine) {
+		if (engine != null) {
+			try {
+				engine.close();
+			} catch (Exception e) {
+				System.err.println("failed to close engine : " + e);
+			}
+		}
+	}
+
+	public interface EngineCall<T> {
+		T apply(ParserEngine engine) throws Exception;
+	}
+
+	private static class Slot {
+
+		volatile ParserEngine engine;
+		volatile ParserEngine next;
+		volatile boolean replacing;
+		long parses;
+
+		Slot(ParserEngine engine) {
+			this.engine = engine;
+		}
+	}
+
+}
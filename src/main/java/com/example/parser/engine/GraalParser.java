@@ -1,37 +1,204 @@
 package com.example.parser.engine;
 
-import java.io.InputStreamReader;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
-import javax.script.Invocable;
-import javax.script.ScriptEngine;
-import javax.script.ScriptEngineManager;
+import org.graalvm.polyglot.Context;
+import org.graalvm.polyglot.Engine;
+import org.graalvm.polyglot.PolyglotException;
+import org.graalvm.polyglot.Source;
+import org.graalvm.polyglot.Value;
+import org.graalvm.polyglot.proxy.ProxyExecutable;
+
+import com.example.parser.jfr.CacheLookupEvent;
+import com.example.parser.jfr.ConvertEvent;
+import com.example.parser.jfr.ParseEvent;
+import com.example.parser.jfr.ParserEvents;
 
 public class GraalParser implements ParserEngine {
 
-	private static ScriptEngineManager manager = new ScriptEngineManager();
-	private ScriptEngine engine;
+	// contexts on one engine share the parsed grammar and its compiled code
+	private static final Engine ENGINE = Engine.newBuilder().option("engine.WarnInterpreterOnly", "false").build();
+	private static final Map<String, Source> SOURCES = new ConcurrentHashMap<>();
 
-	static {
-		System.setProperty("polyglot.engine.WarnInterpreterOnly", "false");
-	}
+	private Context context;
+	private Value parser;
+	private volatile boolean healthy = true;
 
 	public GraalParser(String parserscript) throws Exception {
-		runEngine(parserscript);
+		this(parserscript, GrammarMode.FULL);
+	}
+
+	public GraalParser(String parserscript, GrammarMode mode) throws Exception {
+		this(parserscript, mode, 0);
+	}
+
+	/**
+	 * Caps the context heap at {@code maxHeapBytes} where the runtime supports
+	 * {@code sandbox.MaxHeapMemory}; a parse that crosses it is cancelled and
+	 * the engine reports itself unhealthy. Without support the limit is
+	 * ignored and only recycling bounds the heap.
+	 */
+	public GraalParser(String parserscript, GrammarMode mode, long maxHeapBytes) throws Exception {
+		String key = mode + ":" + parserscript;
+		CacheLookupEvent lookup = new CacheLookupEvent();
+		lookup.begin();
+		Source source = SOURCES.get(key);
+		boolean hit = source != null;
+		source = hit ? source : source(key, parserscript, mode.load(parserscript));
+		lookup.finish("graal-source", key, hit);
+		runEngine(source, mode, maxHeapBytes);
+	}
+
+	/**
+	 * Evaluates grammar text the caller already holds, e.g. one captured at
+	 * native-image build time, under {@code name}.
+	 */
+	public GraalParser(String name, CharSequence script) {
+		Source source = SOURCES.get(name);
+		runEngine(source != null ? source : source(name, name, script), GrammarMode.FULL, 0);
+	}
+
+	private void runEngine(Source source, GrammarMode mode, long maxHeapBytes) {
+		context = newContext(maxHeapBytes);
+		if (mode == GrammarMode.PROFILE) {
+			context.getBindings("js").putMember(GrammarMode.PROFILE_CLOCK,
+					(ProxyExecutable) arguments -> GrammarMode.nanoTime());
+		}
+		context.eval(source);
+		parser = context.getBindings("js").getMember("PegParser");
+	}
+
+	private static Context newContext(long maxHeapBytes) {
+		if (maxHeapBytes > 0) {
+			try {
+				return Context.newBuilder("js").engine(ENGINE).allowExperimentalOptions(true)
+						.option("sandbox.MaxHeapMemory", maxHeapBytes + "B").build();
+			} catch (IllegalArgumentException e) {
+				System.err.println("context heap limit unsupported, relying on recycling : " + e.getMessage());
+			}
+		}
+		return Context.newBuilder("js").engine(ENGINE).build();
+	}
+
+	private static Source source(String key, String name, CharSequence script) {
+		Source source = Source.newBuilder("js", script, name).buildLiteral();
+		Source raced = SOURCES.putIfAbsent(key, source);
+		return raced != null ? raced : source;
+	}
+
+	public Value parse(String input) {
+		ParseEvent event = new ParseEvent();
+		event.begin();
+		try {
+			Value stmt = parser.invokeMember("parse", input);
+			event.finish(this, input, ParserEvents.SUCCESS);
+			return stmt;
+		} catch (PolyglotException e) {
+			event.finish(this, input, ParserEvents.ERROR);
+			if (e.isResourceExhausted() || e.isCancelled()) {
+				healthy = false;
+			}
+			throw e;
+		}
+	}
+
+	@Override
+	public ParseResult parseResult(String input) {
+		Value stmt = parse(input);
+		ConvertEvent event = new ConvertEvent();
+		event.begin();
+		ParseResult result = ParseResult.of(toJava(stmt));
+		event.finish(this, input, ParserEvents.outcome(result));
+		return result;
+	}
+
+	@Override
+	public ParseHandle parseHandle(String input) {
+		return new ValueHandle(parse(input));
+	}
+
+	public Object getParser() {
+		return parser;
 	}
 
-	private void runEngine(String parserscript) throws Exception {
-		engine = manager.getEngineByName("graal.js");
-		engine.eval(new InputStreamReader(GraalParser.class.getClassLoader().getResourceAsStream(parserscript)));
+	@Override
+	public boolean isHealthy() {
+		return healthy;
 	}
 
-	public Object parse(String input) throws Exception {
-		Map<?, ?> stmt = (Map<?, ?>) ((Invocable) engine).invokeMethod(getParser(), "parse", input);
-		return stmt;
+	@Override
+	public void close() {
+		context.close();
 	}
 
-	public Object getParser() throws Exception {
-		return engine.eval("PegParser");
+	private static Object toJava(Object node) {
+		if (!(node instanceof Value)) {
+			return node;
+		}
+		Value value = (Value) node;
+		if (value.isNull()) {
+			return null;
+		}
+		if (value.isString()) {
+			return value.asString();
+		}
+		if (value.isBoolean()) {
+			return value.asBoolean();
+		}
+		if (value.isNumber()) {
+			return value.fitsInInt() ? (Object) value.asInt()
+					: value.fitsInLong() ? (Object) value.asLong() : (Object) value.asDouble();
+		}
+		if (value.hasArrayElements()) {
+			List<Object> list = new ArrayList<>((int) value.getArraySize());
+			for (long i = 0; i < value.getArraySize(); i++) {
+				list.add(toJava(value.getArrayElement(i)));
+			}
+			return list;
+		}
+		if (value.hasMembers()) {
+			Map<String, Object> map = new LinkedHashMap<>();
+			for (String key : value.getMemberKeys()) {
+				map.put(key, toJava(value.getMember(key)));
+			}
+			return map;
+		}
+		return value.toString();
+	}
+
+	private static class ValueHandle extends ParseHandle {
+
+		private final Value stmt;
+
+		ValueHandle(Value stmt) {
+			this.stmt = stmt;
+		}
+
+		@Override
+		protected Object root() {
+			return stmt;
+		}
+
+		@Override
+		protected Object member(Object node, String name) {
+			Value value = (Value) node;
+			return value.hasMembers() && !value.hasArrayElements() ? value.getMember(name) : null;
+		}
+
+		@Override
+		protected Object element(Object node, int index) {
+			Value value = (Value) node;
+			return value.hasArrayElements() && index >= 0 && index < value.getArraySize() ? value.getArrayElement(index) : null;
+		}
+
+		@Override
+		protected Object toJava(Object node) {
+			return GraalParser.toJava(node);
+		}
 	}
 
 }
@@ -0,0 +1,154 @@
+package com.example.parser.engine;
+
+import java.io.IOException;
+
+/**
+ * How much of the generated grammar runs per parse.
+ * <p>
+ * {@link #METADATA} is derived from the same generated parser at load time so
+ * it can never drift from the full grammar:
+ * <ul>
+ * <li>rule results are memoized per input position, so backtracking over long
+ * expressions no longer re-runs the same rules;</li>
+ * <li>unary and binary expression nodes collapse to one shared placeholder;</li>
+ * <li>{@code parse} returns only {@code tableList} and {@code columnList}, with
+ * {@code ast} set to {@code null}.</li>
+ * </ul>
+ * Statement actions still run because they are what fill the table and column
+ * sets, and both sets are order-stable under memoization. Syntax errors are
+ * re-raised from an unmemoized parse so messages match {@link #FULL}.
+ * <p>
+ * {@link #PROFILE} is the full grammar with every {@code peg$parseRule}
+ * dispatch counted and timed. Each result carries a {@code profile} string of
+ * {@code rule,calls,fails,selfMicros} entries separated by {@code ;} for the
+ * rules that parse touched, rule being the index into {@code peg$bytecode}.
+ * Rules are timed with {@link System#nanoTime()}, which every engine binds as
+ * the global {@link #PROFILE_CLOCK} function before the grammar is loaded;
+ * where that binding is missing the profile falls back to {@code Date.now()},
+ * and the result's {@code clock} member says which was used, since self times
+ * are then only good to a millisecond. Syntax errors are returned as an
+ * {@code error} member instead of thrown so their profile is not lost. The
+ * other modes are not instrumented at all.
+ */
+public enum GrammarMode {
+
+	FULL, METADATA, PROFILE;
+
+	/** Global function the {@link #PROFILE} grammar reads its clock from, bound to {@link #nanoTime()}. */
+	public static final String PROFILE_CLOCK = "PegClock";
+
+	private static final long ORIGIN = System.nanoTime();
+
+	private static final String PARSE_RULE = "function peg$parseRule(index) {";
+
+	private static final String MEMOIZED_PARSE_RULE = "var peg$ruleCache = options.memoize === false ? null : {};\n"
+			+ "    function peg$parseRule(index) {\n"
+			+ "      if (!peg$ruleCache) return peg$parseRuleUncached(index);\n"
+			+ "      var key = peg$currPos * peg$bytecode.length + index, cached = peg$ruleCache[key];\n"
+			+ "      if (cached) { peg$currPos = cached.nextPos; return cached.result; }\n"
+			+ "      var result = peg$parseRuleUncached(index);\n"
+			+ "      peg$ruleCache[key] = { nextPos: peg$currPos, result: result };\n"
+			+ "      return result;\n"
+			+ "    }\n"
+			+ "    function peg$parseRuleUncached(index) {";
+
+	private static final String PARSE = "function peg$parse(input, options) {";
+
+	private static final String[] EXPR_BUILDERS = { "function createUnaryExpr(op, e) {",
+			"function createBinaryExpr(op, left, right) {" };
+
+	private static final String METADATA_PARSER = "\nPegParser = (function (parser) {\n"
+			+ "  return {\n"
+			+ "    SyntaxError: parser.SyntaxError,\n"
+			+ "    parse: function (input, options) {\n"
+			+ "      var result;\n"
+			+ "      try {\n"
+			+ "        result = parser.parse(input, options);\n"
+			+ "      } catch (e) {\n"
+			+ "        if (!(e instanceof parser.SyntaxError)) throw e;\n"
+			+ "        result = parser.parse(input, { memoize: false });\n"
+			+ "      }\n"
+			+ "      return { tableList: result.tableList, columnList: result.columnList, ast: null };\n"
+			+ "    }\n"
+			+ "  };\n"
+			+ "})(PegParser);\n";
+
+	// nanoseconds; self time excludes nested rules
+	private static final String PROFILE_STATE = "var PegProfile = {\n"
+			+ "  calls: [], fails: [], self: [], nested: 0,\n"
+			+ "  clock: typeof " + PROFILE_CLOCK + " !== 'undefined' ? 'nanoTime' : 'Date.now',\n"
+			+ "  now: typeof " + PROFILE_CLOCK + " !== 'undefined'\n"
+			+ "      ? function () { return " + PROFILE_CLOCK + "(); } : function () { return Date.now() * 1e6; }\n"
+			+ "};\n";
+
+	private static final String PROFILED_PARSE_RULE = "function peg$parseRule(index) {\n"
+			+ "      var p = PegProfile, outer = p.nested, start = p.now();\n"
+			+ "      p.nested = 0;\n"
+			+ "      var result = peg$parseRuleProfiled(index), elapsed = p.now() - start;\n"
+			+ "      p.calls[index] = (p.calls[index] || 0) + 1;\n"
+			+ "      if (result === peg$FAILED) p.fails[index] = (p.fails[index] || 0) + 1;\n"
+			+ "      p.self[index] = (p.self[index] || 0) + elapsed - p.nested;\n"
+			+ "      p.nested = outer + elapsed;\n"
+			+ "      return result;\n"
+			+ "    }\n"
+			+ "    function peg$parseRuleProfiled(index) {";
+
+	private static final String PROFILE_PARSER = "\nPegParser = (function (parser) {\n"
+			+ "  function snapshot(p) {\n"
+			+ "    var out = [];\n"
+			+ "    for (var i = 0; i < p.calls.length; i++) {\n"
+			+ "      if (p.calls[i]) out.push(i + ',' + p.calls[i] + ',' + (p.fails[i] || 0) + ',' + Math.round(p.self[i] / 1000));\n"
+			+ "    }\n"
+			+ "    return out.join(';');\n"
+			+ "  }\n"
+			+ "  return {\n"
+			+ "    SyntaxError: parser.SyntaxError,\n"
+			+ "    parse: function (input, options) {\n"
+			+ "      var p = PegProfile, result;\n"
+			+ "      p.calls = []; p.fails = []; p.self = []; p.nested = 0;\n"
+			+ "      try {\n"
+			+ "        result = parser.parse(input, options);\n"
+			+ "      } catch (e) {\n"
+			+ "        result = { tableList: [], columnList: [], ast: null, error: String(e && e.message || e) };\n"
+			+ "      }\n"
+			+ "      result.profile = snapshot(p);\n"
+			+ "      result.clock = p.clock;\n"
+			+ "      return result;\n"
+			+ "    }\n"
+			+ "  };\n"
+			+ "})(PegParser);\n";
+
+	/** Nanoseconds since this class was loaded, small enough to stay exact as a JS number. */
+	public static double nanoTime() {
+		return System.nanoTime() - ORIGIN;
+	}
+
+	public String load(String resource) throws IOException {
+		return GrammarResources.load(resource, this);
+	}
+
+	public String apply(String source) {
+		if (this == FULL) {
+			return source;
+		}
+		if (this == PROFILE) {
+			return PROFILE_STATE + replace(source, PARSE_RULE, PROFILED_PARSE_RULE) + PROFILE_PARSER;
+		}
+		String pruned = replace(source, PARSE, "var peg$metadataExpr = { type: 'expr' };\n  " + PARSE);
+		pruned = replace(pruned, PARSE_RULE, MEMOIZED_PARSE_RULE);
+		for (String builder : EXPR_BUILDERS) {
+			pruned = replace(pruned, builder, builder + " return peg$metadataExpr;");
+		}
+		return pruned + METADATA_PARSER;
+	}
+
+	private String replace(String source, String target, String replacement) {
+		int at = source.indexOf(target);
+		if (at < 0) {
+			throw new IllegalArgumentException(
+					"grammar has no '" + target + "', cannot build " + name().toLowerCase() + " mode");
+		}
+		return source.substring(0, at) + replacement + source.substring(at + target.length());
+	}
+
+}
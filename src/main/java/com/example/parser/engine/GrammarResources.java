@@ -0,0 +1,105 @@
+package com.example.parser.engine;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.GZIPInputStream;
+
+import com.example.parser.jfr.CacheLookupEvent;
+
+/**
+ * Loads each script resource once per JVM and hands every engine the same
+ * string.
+ * <p>
+ * For {@code name.js} the minified {@code name.min.js} wins over
+ * {@code name.js}; minified variants are skipped for
+ * {@link GrammarMode#METADATA}, whose load-time rewrite anchors on the
+ * generated function names. A variant unpacked on disk is memory-mapped;
+ * inside a jar its {@code .gz} sibling is preferred and read through a stream.
+ */
+public final class GrammarResources {
+
+	private static final Map<String, String> TEXTS = new ConcurrentHashMap<>();
+
+	private GrammarResources() {
+	}
+
+	public static String load(String resource) throws IOException {
+		return load(resource, GrammarMode.FULL);
+	}
+
+	public static String load(String resource, GrammarMode mode) throws IOException {
+		String key = mode + ":" + resource;
+		CacheLookupEvent event = new CacheLookupEvent();
+		event.begin();
+		String text = TEXTS.get(key);
+		boolean hit = text != null;
+		if (!hit) {
+			text = mode.apply(read(resource, mode == GrammarMode.FULL));
+			String raced = TEXTS.putIfAbsent(key, text);
+			text = raced != null ? raced : text;
+		}
+		event.finish("grammar", key, hit);
+		return text;
+	}
+
+	private static String read(String resource, boolean minified) throws IOException {
+		String base = resource.endsWith(".js") ? resource.substring(0, resource.length() - 3) : null;
+		String[] candidates = base != null && minified ? new String[] { base + ".min.js", resource }
+				: new String[] { resource };
+
+		ClassLoader loader = GrammarResources.class.getClassLoader();
+		for (String candidate : candidates) {
+			URL plain = loader.getResource(candidate);
+			if (plain != null && "file".equals(plain.getProtocol())) {
+				return read(plain, false);
+			}
+			URL gzip = base != null ? loader.getResource(candidate + ".gz") : null;
+			if (gzip != null) {
+				return read(gzip, true);
+			}
+			if (plain != null) {
+				return read(plain, false);
+			}
+		}
+		throw new IOException("script resource not found : " + resource);
+	}
+
+	private static String read(URL url, boolean gzip) throws IOException {
+		Path file = "file".equals(url.getProtocol()) ? path(url) : null;
+		if (file != null && !gzip) {
+			try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+				MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+				return StandardCharsets.UTF_8.decode(mapped).toString();
+			}
+		}
+		try (InputStream in = gzip ? new GZIPInputStream(url.openStream(), 65536) : url.openStream()) {
+			ByteArrayOutputStream bytes = new ByteArrayOutputStream(1 << 20);
+			byte[] buffer = new byte[65536];
+			for (int n; (n = in.read(buffer)) > 0;) {
+				bytes.write(buffer, 0, n);
+			}
+			return new String(bytes.toByteArray(), StandardCharsets.UTF_8);
+		}
+	}
+
+	private static Path path(URL url) {
+		try {
+			return Paths.get(new URI(url.toString()));
+		} catch (URISyntaxException | IllegalArgumentException e) {
+			return null;
+		}
+	}
+
+}
@@ -1,34 +1,97 @@
 package com.example.parser.engine;
 
-import java.io.InputStreamReader;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.function.DoubleSupplier;
 
 import javax.script.Invocable;
 import javax.script.ScriptEngine;
-import javax.script.ScriptEngineManager;
+
+import org.openjdk.nashorn.api.scripting.NashornScriptEngineFactory;
+import org.openjdk.nashorn.api.scripting.ScriptObjectMirror;
+
+import com.example.parser.jfr.ConvertEvent;
+import com.example.parser.jfr.ParseEvent;
+import com.example.parser.jfr.ParserEvents;
 
 public class NashornParser implements ParserEngine {
 
-	private static ScriptEngineManager manager = new ScriptEngineManager();
+	// the standalone engine, since the JDK copy was removed in 15
+	private static NashornScriptEngineFactory factory = new NashornScriptEngineFactory();
 	private ScriptEngine engine;
 
 	public NashornParser(String parserScript) throws Exception {
-		runEngine(parserScript);
+		this(parserScript, GrammarMode.FULL);
 	}
 
-	private void runEngine(String parserScript) throws Exception {
-		engine = manager.getEngineByName("nashorn");
-		engine.eval(new InputStreamReader(NashornParser.class.getClassLoader().getResourceAsStream("core.min.js")));
-		engine.eval(new InputStreamReader(NashornParser.class.getClassLoader().getResourceAsStream(parserScript)));
+	public NashornParser(String parserScript, GrammarMode mode) throws Exception {
+		runEngine(parserScript, mode);
+	}
+
+	private void runEngine(String parserScript, GrammarMode mode) throws Exception {
+		engine = factory.getScriptEngine();
+		engine.eval(GrammarResources.load("es5-shim.js"));
+		if (mode == GrammarMode.PROFILE) {
+			engine.put(GrammarMode.PROFILE_CLOCK, (DoubleSupplier) GrammarMode::nanoTime);
+		}
+		engine.eval(mode.load(parserScript));
 	}
 
 	public Map<?, ?> parse(String sql) throws Exception {
-		Map<?, ?> stmt = (Map<?, ?>) ((Invocable) engine).invokeMethod(getParser(), "parse", sql);
-		return stmt;
+		ParseEvent event = new ParseEvent();
+		event.begin();
+		try {
+			Map<?, ?> stmt = (Map<?, ?>) ((Invocable) engine).invokeMethod(getParser(), "parse", sql);
+			event.finish(this, sql, ParserEvents.SUCCESS);
+			return stmt;
+		} catch (Exception e) {
+			event.finish(this, sql, ParserEvents.ERROR);
+			throw e;
+		}
+	}
+
+	@Override
+	public ParseResult parseResult(String sql) throws Exception {
+		Map<?, ?> stmt = parse(sql);
+		ConvertEvent event = new ConvertEvent();
+		event.begin();
+		ParseResult result = ParseResult.of(toJava(stmt));
+		event.finish(this, sql, ParserEvents.outcome(result));
+		return result;
+	}
+
+	@Override
+	public ParseHandle parseHandle(String sql) throws Exception {
+		return ParseHandle.of(parse(sql), NashornParser::toJava);
 	}
 
 	public Object getParser() {
 		return engine.get("PegParser");
 	}
 
+	// mirrors expose JS arrays as maps keyed "0".."n", so unwrap them here
+	private static Object toJava(Object value) {
+		if (ScriptObjectMirror.isUndefined(value)) {
+			return null;
+		}
+		if (value instanceof ScriptObjectMirror) {
+			ScriptObjectMirror mirror = (ScriptObjectMirror) value;
+			if (mirror.isArray()) {
+				List<Object> list = new ArrayList<>();
+				for (Object item : mirror.values()) {
+					list.add(toJava(item));
+				}
+				return list;
+			}
+			Map<String, Object> map = new LinkedHashMap<>();
+			for (Map.Entry<String, Object> e : mirror.entrySet()) {
+				map.put(e.getKey(), toJava(e.getValue()));
+			}
+			return map;
+		}
+		return value;
+	}
+
 }
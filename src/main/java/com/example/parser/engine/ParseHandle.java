@@ -0,0 +1,160 @@
+package com.example.parser.engine;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.function.UnaryOperator;
+
+/**
+ * A parse result that stays on the engine side until asked for. Only the
+ * projection requested through {@link #tables()}, {@link #columns()} or
+ * {@link #select(String)} is converted to Java objects; the rest of the AST is
+ * never pulled across the JS/Java boundary. Handles must be closed so engines
+ * can release the underlying JS object.
+ * <p>
+ * Paths are dot separated member names with optional {@code [n]} indexes and
+ * an optional leading {@code $}, e.g. {@code ast.select.from[0].table}.
+ */
+public abstract class ParseHandle implements AutoCloseable {
+
+	private boolean closed;
+
+	protected abstract Object root();
+
+	protected abstract Object member(Object node, String name);
+
+	protected abstract Object element(Object node, int index);
+
+	protected abstract Object toJava(Object node);
+
+	protected void release(Object node) {
+	}
+
+	public static ParseHandle of(Object stmt, UnaryOperator<Object> converter) {
+		return new MapHandle(stmt, converter);
+	}
+
+	public List<String> tables() {
+		return strings(select("tableList"));
+	}
+
+	public List<String> columns() {
+		return strings(select("columnList"));
+	}
+
+	public Object ast() {
+		return select("ast");
+	}
+
+	public Object select(String path) {
+		if (closed) {
+			throw new IllegalStateException("parse handle already closed");
+		}
+		Object root = root();
+		Object node = root;
+		for (Object step : steps(path)) {
+			if (node == null) {
+				return null;
+			}
+			Object next = step instanceof Integer ? element(node, (Integer) step) : member(node, (String) step);
+			if (node != root) {
+				release(node);
+			}
+			node = next;
+		}
+		try {
+			return toJava(node);
+		} finally {
+			if (node != root) {
+				release(node);
+			}
+		}
+	}
+
+	public ParseResult materialize() {
+		return ParseResult.of(select("$"));
+	}
+
+	@Override
+	public void close() {
+		if (!closed) {
+			closed = true;
+			release(root());
+		}
+	}
+
+	static List<Object> steps(String path) {
+		List<Object> steps = new ArrayList<>();
+		int i = path.startsWith("$") ? 1 : 0;
+		while (i < path.length()) {
+			char c = path.charAt(i);
+			if (c == '.') {
+				i++;
+			} else if (c == '[') {
+				int end = path.indexOf(']', i);
+				if (end < 0) {
+					throw new IllegalArgumentException("unclosed index in path " + path);
+				}
+				steps.add(Integer.parseInt(path.substring(i + 1, end).trim()));
+				i = end + 1;
+			} else {
+				int end = i;
+				while (end < path.length() && path.charAt(end) != '.' && path.charAt(end) != '[') {
+					end++;
+				}
+				steps.add(path.substring(i, end));
+				i = end;
+			}
+		}
+		return steps;
+	}
+
+	private static List<String> strings(Object value) {
+		if (!(value instanceof List)) {
+			return Collections.emptyList();
+		}
+		List<String> list = new ArrayList<>();
+		for (Object item : (List<?>) value) {
+			list.add(String.valueOf(item));
+		}
+		return list;
+	}
+
+	// Graal and Nashorn hand back lazily converting Map/List views of the JS object
+	private static class MapHandle extends ParseHandle {
+
+		private final Object stmt;
+		private final UnaryOperator<Object> converter;
+
+		MapHandle(Object stmt, UnaryOperator<Object> converter) {
+			this.stmt = stmt;
+			this.converter = converter;
+		}
+
+		@Override
+		protected Object root() {
+			return stmt;
+		}
+
+		@Override
+		protected Object member(Object node, String name) {
+			return node instanceof Map ? ((Map<?, ?>) node).get(name) : null;
+		}
+
+		@Override
+		protected Object element(Object node, int index) {
+			if (node instanceof List) {
+				List<?> list = (List<?>) node;
+				return index >= 0 && index < list.size() ? list.get(index) : null;
+			}
+			return member(node, String.valueOf(index));
+		}
+
+		@Override
+		protected Object toJava(Object node) {
+			return converter.apply(node);
+		}
+	}
+
+}
@@ -0,0 +1,155 @@
+package com.example.parser.engine;
+
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+/**
+ * Parses a statement stream on demand: at most {@code concurrency} parses are
+ * in flight and never more than the subscriber has requested. Results are
+ * emitted in statement order; the first parse failure terminates the stream.
+ */
+class ParsePublisher implements Publisher<ParseResult> {
+
+	private final AsyncParser parser;
+	private final Iterable<String> statements;
+	private final int concurrency;
+	private final AtomicBoolean subscribed = new AtomicBoolean();
+
+	ParsePublisher(AsyncParser parser, Iterable<String> statements, int concurrency) {
+		this.parser = parser;
+		this.statements = statements;
+		this.concurrency = Math.max(1, concurrency);
+	}
+
+	@Override
+	public void subscribe(Subscriber<? super ParseResult> subscriber) {
+		if (subscriber == null) {
+			throw new NullPointerException("subscriber");
+		}
+		if (!subscribed.compareAndSet(false, true)) {
+			subscriber.onSubscribe(new Subscription() {
+				public void request(long n) {
+				}
+
+				public void cancel() {
+				}
+			});
+			subscriber.onError(new IllegalStateException("statement stream supports a single subscriber"));
+			return;
+		}
+		StatementSubscription subscription = new StatementSubscription(subscriber, statements.iterator());
+		subscriber.onSubscribe(subscription);
+		subscription.drain();
+	}
+
+	private class StatementSubscription implements Subscription {
+
+		private final Subscriber<? super ParseResult> subscriber;
+		private final Iterator<String> iterator;
+
+		private final AtomicLong requested = new AtomicLong();
+		private final AtomicInteger wip = new AtomicInteger();
+		private volatile boolean cancelled;
+		private volatile Throwable badRequest;
+
+		// only touched inside drain()
+		private final ArrayDeque<CompletableFuture<ParseResult>> window = new ArrayDeque<>();
+		private long emitted;
+		private boolean exhausted;
+
+		StatementSubscription(Subscriber<? super ParseResult> subscriber, Iterator<String> iterator) {
+			this.subscriber = subscriber;
+			this.iterator = iterator;
+		}
+
+		@Override
+		public void request(long n) {
+			if (n <= 0) {
+				badRequest = new IllegalArgumentException("request must be positive (rule 3.9) : " + n);
+			} else {
+				requested.accumulateAndGet(n, (a, b) -> a + b < 0 ? Long.MAX_VALUE : a + b);
+			}
+			drain();
+		}
+
+		@Override
+		public void cancel() {
+			cancelled = true;
+		}
+
+		void drain() {
+			if (wip.getAndIncrement() != 0) {
+				return;
+			}
+			int missed = 1;
+			for (;;) {
+				if (cancelled) {
+					return;
+				}
+				if (badRequest != null) {
+					terminate(badRequest);
+					return;
+				}
+
+				while (emitted < requested.get()) {
+					CompletableFuture<ParseResult> head = window.peek();
+					if (head == null || !head.isDone()) {
+						break;
+					}
+					window.poll();
+					ParseResult result;
+					try {
+						result = head.join();
+					} catch (CompletionException e) {
+						terminate(e.getCause() != null ? e.getCause() : e);
+						return;
+					}
+					emitted++;
+					subscriber.onNext(result);
+					if (cancelled) {
+						return;
+					}
+				}
+
+				while (!exhausted && window.size() < concurrency && emitted + window.size() < requested.get()) {
+					if (!iterator.hasNext()) {
+						exhausted = true;
+						break;
+					}
+					CompletableFuture<ParseResult> future = parser.parseAsync(iterator.next()).toCompletableFuture();
+					window.add(future);
+					future.whenComplete((r, e) -> drain());
+				}
+
+				if (!exhausted && window.isEmpty() && !iterator.hasNext()) {
+					exhausted = true;
+				}
+				if (exhausted && window.isEmpty()) {
+					cancelled = true;
+					subscriber.onComplete();
+					return;
+				}
+
+				missed = wip.addAndGet(-missed);
+				if (missed == 0) {
+					return;
+				}
+			}
+		}
+
+		private void terminate(Throwable error) {
+			cancelled = true;
+			subscriber.onError(error);
+		}
+	}
+
+}
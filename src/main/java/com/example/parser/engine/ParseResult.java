@@ -0,0 +1,113 @@
+package com.example.parser.engine;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+public class ParseResult {
+
+	private final List<String> tableList;
+	private final List<String> columnList;
+	private final Object ast;
+	private final String error;
+
+	public ParseResult(List<String> tableList, List<String> columnList, Object ast) {
+		this(tableList, columnList, ast, null);
+	}
+
+	private ParseResult(List<String> tableList, List<String> columnList, Object ast, String error) {
+		this.tableList = tableList;
+		this.columnList = columnList;
+		this.ast = ast;
+		this.error = error;
+	}
+
+	public static ParseResult failure(String error) {
+		return new ParseResult(Collections.emptyList(), Collections.emptyList(), null, error);
+	}
+
+	public static ParseResult failure(Throwable e) {
+		return failure(e.getMessage() != null ? e.getMessage() : e.toString());
+	}
+
+	public static ParseResult of(Object stmt) {
+		Map<?, ?> map = (Map<?, ?>) toJava(stmt);
+		// GrammarMode.PROFILE reports syntax errors in the result rather than throwing
+		if (map.get("error") instanceof String) {
+			return failure((String) map.get("error"));
+		}
+		return new ParseResult(strings(map.get("tableList")), strings(map.get("columnList")), map.get("ast"));
+	}
+
+	public List<String> getTableList() {
+		return tableList;
+	}
+
+	public List<String> getColumnList() {
+		return columnList;
+	}
+
+	public Object getAst() {
+		return ast;
+	}
+
+	public String getError() {
+		return error;
+	}
+
+	public boolean isSuccess() {
+		return error == null;
+	}
+
+	public Map<String, Object> toMap() {
+		Map<String, Object> map = new LinkedHashMap<>();
+		if (error != null) {
+			map.put("error", error);
+			return map;
+		}
+		map.put("tableList", tableList);
+		map.put("columnList", columnList);
+		map.put("ast", ast);
+		return map;
+	}
+
+	@Override
+	public String toString() {
+		if (error != null) {
+			return "ParseResult[error=" + error + "]";
+		}
+		return "ParseResult[tableList=" + tableList + ", columnList=" + columnList + "]";
+	}
+
+	static Object toJava(Object value) {
+		if (value instanceof List) {
+			List<Object> list = new ArrayList<>();
+			for (Object item : (List<?>) value) {
+				list.add(toJava(item));
+			}
+			return list;
+		}
+		if (value instanceof Map) {
+			Map<String, Object> map = new LinkedHashMap<>();
+			for (Map.Entry<?, ?> e : ((Map<?, ?>) value).entrySet()) {
+				map.put(String.valueOf(e.getKey()), toJava(e.getValue()));
+			}
+			return map;
+		}
+		return value;
+	}
+
+	private static List<String> strings(Object value) {
+		if (!(value instanceof List)) {
+			return Collections.emptyList();
+		}
+		List<String> list = new ArrayList<>();
+		for (Object item : (List<?>) value) {
+			list.add(String.valueOf(item));
+		}
+		return list;
+	}
+
+}
@@ -1,9 +1,53 @@
 package com.example.parser.engine;
 
-public interface ParserEngine {
+import java.util.ArrayList;
+import java.util.List;
+
+public interface ParserEngine extends AutoCloseable {
 
 	Object getParser() throws Exception;
 
 	Object parse(String input) throws Exception;
 
+	default ParseResult parseResult(String input) throws Exception {
+		return ParseResult.of(parse(input));
+	}
+
+	default ParseHandle parseHandle(String input) throws Exception {
+		return ParseHandle.of(parse(input), ParseResult::toJava);
+	}
+
+	default List<ParseResult> parseBatch(List<String> inputs) {
+		List<ParseResult> results = new ArrayList<>(inputs.size());
+		for (String input : inputs) {
+			try {
+				results.add(parseResult(input));
+			} catch (Exception e) {
+				results.add(ParseResult.failure(e));
+			}
+		}
+		return results;
+	}
+
+	// JS objects the engine still holds for Java; steady growth means handles are not being released
+	default long retainedHandles() {
+		return 0;
+	}
+
+	// false once the engine must be replaced, e.g. its context hit a resource limit
+	default boolean isHealthy() {
+		return true;
+	}
+
+	// a thread-affine engine (V8) lets go of the calling thread so that another one can acquireThread() it
+	default void releaseThread() {
+	}
+
+	default void acquireThread() {
+	}
+
+	@Override
+	default void close() throws Exception {
+	}
+
 }
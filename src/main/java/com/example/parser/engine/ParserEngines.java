@@ -0,0 +1,39 @@
+package com.example.parser.engine;
+
+import java.util.Arrays;
+import java.util.List;
+
+public final class ParserEngines {
+
+	public static final String ES6_GRAMMAR = "bigquery.peg-es6-v6.1.js";
+	public static final String ES5_GRAMMAR = "bigquery.peg-es5-v6.1.js";
+
+	public static final String GRAAL = "graal";
+	public static final String V8 = "v8";
+	public static final String NASHORN = "nashorn";
+
+	private ParserEngines() {
+	}
+
+	public static List<String> names() {
+		return Arrays.asList(GRAAL, V8, NASHORN);
+	}
+
+	public static ParserEngine create(String name) throws Exception {
+		return create(name, GrammarMode.FULL);
+	}
+
+	public static ParserEngine create(String name, GrammarMode mode) throws Exception {
+		switch (name) {
+		case GRAAL:
+			return new GraalParser(ES6_GRAMMAR, mode);
+		case V8:
+			return new V8Parser(ES5_GRAMMAR, mode);
+		case NASHORN:
+			return new NashornParser(ES5_GRAMMAR, mode);
+		default:
+			throw new IllegalArgumentException("unknown engine " + name);
+		}
+	}
+
+}
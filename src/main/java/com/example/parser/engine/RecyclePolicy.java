@@ -0,0 +1,61 @@
+package com.example.parser.engine;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * When a pooled engine is replaced: after {@code maxParses} parses, once it
+ * holds more than {@code maxRetainedHandles} JS handles for Java (a leak, since
+ * results are released after every call), or as soon as it reports itself
+ * unhealthy. Replacements parse the {@code warmup} statements before they
+ * take any traffic.
+ */
+public class RecyclePolicy {
+
+	public static final RecyclePolicy NEVER = new RecyclePolicy(0, 0, Collections.emptyList());
+
+	private final long maxParses;
+	private final long maxRetainedHandles;
+	private final List<String> warmup;
+
+	/**
+	 * @param maxParses          0 for no parse limit
+	 * @param maxRetainedHandles 0 for no handle limit
+	 */
+	public RecyclePolicy(long maxParses, long maxRetainedHandles, List<String> warmup) {
+		this.maxParses = maxParses;
+		this.maxRetainedHandles = maxRetainedHandles;
+		this.warmup = warmup;
+	}
+
+	public long getMaxParses() {
+		return maxParses;
+	}
+
+	public long getMaxRetainedHandles() {
+		return maxRetainedHandles;
+	}
+
+	public List<String> getWarmup() {
+		return warmup;
+	}
+
+	boolean isLeaking(ParserEngine engine) {
+		return maxRetainedHandles > 0 && engine.retainedHandles() > maxRetainedHandles;
+	}
+
+	boolean isDue(ParserEngine engine, long parses) {
+		return !engine.isHealthy() || (maxParses > 0 && parses >= maxParses) || isLeaking(engine);
+	}
+
+	void warmUp(ParserEngine engine) {
+		for (String sql : warmup) {
+			try {
+				engine.parseResult(sql);
+			} catch (Exception e) {
+				// warm-up statements only exercise the engine, failures don't matter
+			}
+		}
+	}
+
+}
@@ -0,0 +1,197 @@
+package com.example.parser.engine;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Dispatches each statement to the engine with the lowest observed latency
+ * for its {@link StatementClass}. Every engine is sampled a few times per
+ * class first, every {@code explorePeriod}-th call re-samples the least
+ * recently used engine, and a failing engine falls through to the next one.
+ * Like the engines it wraps, a router is not thread safe: use one per thread,
+ * e.g. one per pinned worker, and read {@link #getStatistics()} from that
+ * thread as well.
+ */
+public class RouterParser implements ParserEngine {
+
+	private static final double ALPHA = 0.2;
+
+	private final String[] names;
+	private final ParserEngine[] engines;
+	private final int minSamples;
+	private final int explorePeriod;
+
+	private final Map<StatementClass, Stats[]> stats = new HashMap<>();
+	private long calls;
+
+	public RouterParser(Map<String, ParserEngine> engines) {
+		this(engines, 5, 50);
+	}
+
+	public RouterParser(Map<String, ParserEngine> engines, int minSamples, int explorePeriod) {
+		if (engines.isEmpty()) {
+			throw new IllegalArgumentException("no engines to route to");
+		}
+		this.names = engines.keySet().toArray(new String[0]);
+		this.engines = engines.values().toArray(new ParserEngine[0]);
+		this.minSamples = minSamples;
+		this.explorePeriod = explorePeriod;
+	}
+
+	public static RouterParser create(List<String> engineNames) {
+		Map<String, ParserEngine> engines = new LinkedHashMap<>();
+		for (String name : engineNames) {
+			try {
+				engines.put(name, ParserEngines.create(name));
+			} catch (Throwable e) {
+				System.err.println("engine " + name + " unavailable : " + e);
+			}
+		}
+		return new RouterParser(engines);
+	}
+
+	public Object getParser() {
+		return this;
+	}
+
+	public Map<String, Object> parse(String input) throws Exception {
+		return parseResult(input).toMap();
+	}
+
+	@Override
+	public ParseResult parseResult(String input) throws Exception {
+		StatementClass statementClass = StatementClass.of(input);
+		Stats[] classStats = stats.computeIfAbsent(statementClass, k -> newStats());
+		long call = ++calls;
+
+		Exception failure = null;
+		List<Stats> failed = null;
+		for (int i : order(classStats, call)) {
+			long start = System.nanoTime();
+			try {
+				ParseResult result = engines[i].parseResult(input);
+				classStats[i].success(System.nanoTime() - start, call);
+				if (failed != null) {
+					// only blame engines when another one could parse the statement
+					for (Stats s : failed) {
+						s.failure(call);
+					}
+				}
+				return result;
+			} catch (Exception e) {
+				if (failure == null) {
+					failure = e;
+					failed = new ArrayList<>();
+				}
+				failed.add(classStats[i]);
+			}
+		}
+		throw failure;
+	}
+
+	private Integer[] order(Stats[] classStats, long call) {
+		Integer[] order = new Integer[engines.length];
+		for (int i = 0; i < order.length; i++) {
+			order[i] = i;
+		}
+		Arrays.sort(order, Comparator.comparingDouble(i -> classStats[i].score(minSamples)));
+
+		if (explorePeriod > 0 && call % explorePeriod == 0 && order.length > 1) {
+			int stalest = 1;
+			for (int i = 2; i < order.length; i++) {
+				if (classStats[order[i]].lastUsed < classStats[order[stalest]].lastUsed) {
+					stalest = i;
+				}
+			}
+			Integer explore = order[stalest];
+			System.arraycopy(order, 0, order, 1, stalest);
+			order[0] = explore;
+		}
+		return order;
+	}
+
+	private Stats[] newStats() {
+		Stats[] s = new Stats[engines.length];
+		for (int i = 0; i < s.length; i++) {
+			s[i] = new Stats();
+		}
+		return s;
+	}
+
+	public Map<String, Map<String, Object>> getStatistics() {
+		Map<String, Map<String, Object>> result = new LinkedHashMap<>();
+		stats.forEach((statementClass, classStats) -> {
+			Map<String, Object> perEngine = new LinkedHashMap<>();
+			for (int i = 0; i < names.length; i++) {
+				perEngine.put(names[i], classStats[i].toMap());
+			}
+			result.put(statementClass.key(), perEngine);
+		});
+		return result;
+	}
+
+	@Override
+	public void close() throws Exception {
+		Exception failure = null;
+		for (ParserEngine engine : engines) {
+			try {
+				engine.close();
+			} catch (Exception e) {
+				if (failure == null) {
+					failure = e;
+				} else {
+					failure.addSuppressed(e);
+				}
+			}
+		}
+		if (failure != null) {
+			throw failure;
+		}
+	}
+
+	private static class Stats {
+
+		double ewmaNanos;
+		long samples;
+		long failures;
+		long lastUsed;
+
+		void success(long nanos, long call) {
+			ewmaNanos = samples == failures ? nanos : ewmaNanos + ALPHA * (nanos - ewmaNanos);
+			samples++;
+			lastUsed = call;
+		}
+
+		void failure(long call) {
+			samples++;
+			failures++;
+			lastUsed = call;
+		}
+
+		// unsampled engines sort first, then latency weighted by success rate
+		double score(int minSamples) {
+			if (samples < minSamples) {
+				return -1.0 / (samples + 1);
+			}
+			if (samples == failures) {
+				return Double.MAX_VALUE;
+			}
+			double successRate = (samples - failures) / (double) samples;
+			return ewmaNanos / Math.max(0.05, successRate);
+		}
+
+		Map<String, Object> toMap() {
+			Map<String, Object> map = new LinkedHashMap<>();
+			map.put("samples", samples);
+			map.put("failures", failures);
+			map.put("ewmaUs", ewmaNanos / 1000.0);
+			return map;
+		}
+	}
+
+}
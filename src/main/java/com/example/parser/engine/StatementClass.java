@@ -0,0 +1,97 @@
+package com.example.parser.engine;
+
+import java.util.Locale;
+
+/**
+ * Cheap classification of a statement by leading verb, length bucket and
+ * parenthesis nesting depth, computed in one pass without tokenizing.
+ */
+public final class StatementClass {
+
+	private static final int[] LENGTH_BUCKETS = { 64, 256, 1024 };
+	private static final int MAX_DEPTH = 3;
+
+	private final String verb;
+	private final int lengthBucket;
+	private final int depth;
+	private final String key;
+
+	private StatementClass(String verb, int lengthBucket, int depth) {
+		this.verb = verb;
+		this.lengthBucket = lengthBucket;
+		this.depth = depth;
+		this.key = verb + "/" + lengthBucket + "/" + depth;
+	}
+
+	public static StatementClass of(String sql) {
+		int length = sql.length();
+		int start = 0;
+		while (start < length && !Character.isLetter(sql.charAt(start))) {
+			start++;
+		}
+		int end = start;
+		while (end < length && Character.isLetter(sql.charAt(end))) {
+			end++;
+		}
+		String verb = sql.substring(start, end).toUpperCase(Locale.ROOT);
+
+		int depth = 0;
+		int maxDepth = 0;
+		char quote = 0;
+		for (int i = end; i < length; i++) {
+			char c = sql.charAt(i);
+			if (quote != 0) {
+				if (c == quote) {
+					quote = 0;
+				} else if (c == '\\') {
+					i++;
+				}
+			} else if (c == '\'' || c == '"' || c == '`') {
+				quote = c;
+			} else if (c == '(') {
+				maxDepth = Math.max(maxDepth, ++depth);
+			} else if (c == ')') {
+				depth--;
+			}
+		}
+
+		int lengthBucket = 0;
+		while (lengthBucket < LENGTH_BUCKETS.length && length >= LENGTH_BUCKETS[lengthBucket]) {
+			lengthBucket++;
+		}
+
+		return new StatementClass(verb, lengthBucket, Math.min(maxDepth, MAX_DEPTH));
+	}
+
+	public String getVerb() {
+		return verb;
+	}
+
+	public int getLengthBucket() {
+		return lengthBucket;
+	}
+
+	public int getDepth() {
+		return depth;
+	}
+
+	public String key() {
+		return key;
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		return obj instanceof StatementClass && key.equals(((StatementClass) obj).key);
+	}
+
+	@Override
+	public int hashCode() {
+		return key.hashCode();
+	}
+
+	@Override
+	public String toString() {
+		return key;
+	}
+
+}
@@ -1,37 +1,215 @@
 package com.example.parser.engine;
 
-import java.io.BufferedReader;
-import java.io.InputStreamReader;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
 import com.eclipsesource.v8.V8;
+import com.eclipsesource.v8.JavaCallback;
+import com.eclipsesource.v8.V8Array;
 import com.eclipsesource.v8.V8Object;
+import com.eclipsesource.v8.V8Value;
+import com.example.parser.jfr.ConvertEvent;
+import com.example.parser.jfr.ParseEvent;
+import com.example.parser.jfr.ParserEvents;
 
 public class V8Parser implements ParserEngine {
 
+	// one JNI crossing for a whole batch instead of one per statement
+	private static final String BATCH_SCRIPT = "var PegParserBatch = function (inputs) {\n"
+			+ "  var out = [];\n"
+			+ "  for (var i = 0; i < inputs.length; i++) {\n"
+			+ "    try { out.push(PegParser.parse(inputs[i])); }\n"
+			+ "    catch (e) { out.push({ error: String(e && e.message || e) }); }\n"
+			+ "  }\n"
+			+ "  return out;\n"
+			+ "};";
+
 	private V8 runtime;
 	
 	public V8Parser(String parserScript) throws Exception {
-		runEngine(parserScript);
+		this(parserScript, GrammarMode.FULL);
+	}
+
+	public V8Parser(String parserScript, GrammarMode mode) throws Exception {
+		runEngine(parserScript, mode);
 	}
 
-	private void runEngine(String parserScript) throws Exception {
+	private void runEngine(String parserScript, GrammarMode mode) throws Exception {
 		runtime = V8.createV8Runtime();
-		BufferedReader parserReader = new BufferedReader(new InputStreamReader(
-				V8Parser.class.getClassLoader().getResourceAsStream(parserScript)));
-		StringBuilder parserjs = new StringBuilder();
-		parserReader.lines().forEach(line -> parserjs.append(line).append("\n"));
-		runtime.executeScript(parserjs.toString());
+		if (mode == GrammarMode.PROFILE) {
+			runtime.registerJavaMethod((JavaCallback) (receiver, parameters) -> GrammarMode.nanoTime(),
+					GrammarMode.PROFILE_CLOCK);
+		}
+		runtime.executeScript(mode.load(parserScript));
+		runtime.executeScript(BATCH_SCRIPT);
 	}
 
 	public V8Object parse(String sql) {
 		V8Object parser = ((V8Object) getParser());
-		V8Object stmt = (V8Object) parser.executeJSFunction("parse", sql);
-		parser.release();
-		return stmt;
+		ParseEvent event = new ParseEvent();
+		event.begin();
+		try {
+			V8Object stmt = (V8Object) parser.executeJSFunction("parse", sql);
+			event.finish(this, sql, ParserEvents.SUCCESS);
+			return stmt;
+		} catch (RuntimeException e) {
+			event.finish(this, sql, ParserEvents.ERROR);
+			throw e;
+		} finally {
+			parser.release();
+		}
+	}
+
+	@Override
+	public ParseResult parseResult(String sql) {
+		V8Object stmt = parse(sql);
+		ConvertEvent event = new ConvertEvent();
+		event.begin();
+		try {
+			ParseResult result = ParseResult.of(toJava(stmt));
+			event.finish(this, sql, ParserEvents.outcome(result));
+			return result;
+		} finally {
+			stmt.release();
+		}
+	}
+
+	@Override
+	public ParseHandle parseHandle(String sql) {
+		return new V8Handle(parse(sql));
+	}
+
+	@Override
+	public List<ParseResult> parseBatch(List<String> inputs) {
+		V8Array array = new V8Array(runtime);
+		V8Array results = null;
+		try {
+			for (String input : inputs) {
+				array.push(input);
+			}
+			ParseEvent invoke = new ParseEvent();
+			invoke.begin();
+			results = (V8Array) runtime.executeJSFunction("PegParserBatch", array);
+			invoke.finish(this, inputs, ParserEvents.SUCCESS);
+			ConvertEvent convert = new ConvertEvent();
+			convert.begin();
+			List<ParseResult> batch = new ArrayList<>(inputs.size());
+			for (Object item : (List<?>) toJava(results)) {
+				Map<?, ?> stmt = (Map<?, ?>) item;
+				batch.add(stmt.containsKey("error") ? ParseResult.failure(String.valueOf(stmt.get("error")))
+						: ParseResult.of(stmt));
+			}
+			convert.finish(this, inputs, ParserEvents.outcome(batch));
+			return batch;
+		} finally {
+			array.release();
+			release(results);
+		}
 	}
 
 	public Object getParser() {
 		return runtime.get("PegParser");
 	}
 
+	@Override
+	public long retainedHandles() {
+		return runtime.getObjectReferenceCount();
+	}
+
+	@Override
+	public void releaseThread() {
+		runtime.getLocker().release();
+	}
+
+	@Override
+	public void acquireThread() {
+		runtime.getLocker().acquire();
+	}
+
+	@Override
+	public void close() {
+		runtime.release(false);
+	}
+
+	private static Object toJava(Object value) {
+		if (isUndefined(value)) {
+			return null;
+		}
+		if (value instanceof V8Array) {
+			V8Array array = (V8Array) value;
+			List<Object> list = new ArrayList<>(array.length());
+			for (int i = 0; i < array.length(); i++) {
+				Object item = array.get(i);
+				list.add(toJava(item));
+				release(item);
+			}
+			return list;
+		}
+		if (value instanceof V8Object) {
+			V8Object object = (V8Object) value;
+			Map<String, Object> map = new LinkedHashMap<>();
+			for (String key : object.getKeys()) {
+				Object item = object.get(key);
+				map.put(key, toJava(item));
+				release(item);
+			}
+			return map;
+		}
+		return value;
+	}
+
+	private static boolean isUndefined(Object value) {
+		return value instanceof V8Value && ((V8Value) value).isUndefined();
+	}
+
+	private static void release(Object value) {
+		if (value instanceof V8Value) {
+			((V8Value) value).release();
+		}
+	}
+
+	private static class V8Handle extends ParseHandle {
+
+		private final V8Object stmt;
+
+		V8Handle(V8Object stmt) {
+			this.stmt = stmt;
+		}
+
+		@Override
+		protected Object root() {
+			return stmt;
+		}
+
+		@Override
+		protected Object member(Object node, String name) {
+			// a missing member comes back as V8's undefined, which is a V8Object that throws on get
+			if (isUndefined(node) || !(node instanceof V8Object) || node instanceof V8Array) {
+				return null;
+			}
+			return ((V8Object) node).get(name);
+		}
+
+		@Override
+		protected Object element(Object node, int index) {
+			if (node instanceof V8Array && !isUndefined(node)) {
+				V8Array array = (V8Array) node;
+				return index >= 0 && index < array.length() ? array.get(index) : null;
+			}
+			return null;
+		}
+
+		@Override
+		protected Object toJava(Object node) {
+			return V8Parser.toJava(node);
+		}
+
+		@Override
+		protected void release(Object node) {
+			V8Parser.release(node);
+		}
+	}
+
 }
@@ -0,0 +1,24 @@
+package com.example.parser.gremlin;
+
+/**
+ * Traversal shapes that {@link TraversalCostEstimator} reports because they
+ * tend to be expensive regardless of the numbers.
+ */
+public enum CostFlag {
+
+	/** {@code V()} or {@code E()} without ids: every element is read. */
+	FULL_SCAN,
+
+	/** {@code repeat()} with neither {@code times()} nor a later {@code limit()}. */
+	UNBOUNDED_REPEAT,
+
+	/** {@code match()}: every pattern runs for every traverser. */
+	MATCH,
+
+	/** A run of {@code out}/{@code in}/{@code both} steps with no {@code dedup()} or {@code limit()} in between. */
+	LONG_EXPANSION,
+
+	/** The estimated cost exceeds the estimator's budget. */
+	OVER_BUDGET
+
+}
@@ -0,0 +1,190 @@
+package com.example.parser.gremlin;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+
+import org.apache.tinkerpop.gremlin.structure.Direction;
+import org.apache.tinkerpop.gremlin.structure.Edge;
+import org.apache.tinkerpop.gremlin.structure.Graph;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.apache.tinkerpop.gremlin.structure.VertexProperty;
+
+/**
+ * Cardinality statistics of a graph, gathered in one pass over a sample such
+ * as a {@code TinkerGraph} loaded with a slice of production data: vertex and
+ * edge counts per label, the number of vertices with at least one edge of a
+ * label in each direction, and per vertex property key how many vertices
+ * carry it and how many distinct values it has.
+ * <p>
+ * The average degree of an edge label is taken over the vertices that have
+ * such an edge, not over all vertices, so a step that follows the label from
+ * the vertices it applies to is not underestimated. {@link #scale} projects a
+ * sample onto a graph of the production size; degrees and distinct value
+ * counts are kept, the other counts grow.
+ * Instances are immutable.
+ */
+public final class GraphStatistics {
+
+	private final long vertexCount;
+	private final long edgeCount;
+	private final Map<String, Long> vertexLabels;
+	private final Map<String, Long> edgeLabels;
+	private final Map<String, Long> outVertices;
+	private final Map<String, Long> inVertices;
+	private final Map<String, Long> propertyCounts;
+	private final Map<String, Long> distinctValues;
+
+	private GraphStatistics(long vertexCount, long edgeCount, Map<String, Long> vertexLabels,
+			Map<String, Long> edgeLabels, Map<String, Long> outVertices, Map<String, Long> inVertices,
+			Map<String, Long> propertyCounts, Map<String, Long> distinctValues) {
+		this.vertexCount = vertexCount;
+		this.edgeCount = edgeCount;
+		this.vertexLabels = vertexLabels;
+		this.edgeLabels = edgeLabels;
+		this.outVertices = outVertices;
+		this.inVertices = inVertices;
+		this.propertyCounts = propertyCounts;
+		this.distinctValues = distinctValues;
+	}
+
+	public static GraphStatistics of(Graph sample) {
+		long vertexCount = 0;
+		long edgeCount = 0;
+		Map<String, Long> vertexLabels = new HashMap<>();
+		Map<String, Long> edgeLabels = new HashMap<>();
+		Map<String, Long> outVertices = new HashMap<>();
+		Map<String, Long> inVertices = new HashMap<>();
+		Map<String, Long> propertyCounts = new HashMap<>();
+		Map<String, Set<Object>> values = new HashMap<>();
+		Set<String> seen = new HashSet<>();
+
+		for (Iterator<Vertex> vertices = sample.vertices(); vertices.hasNext();) {
+			Vertex vertex = vertices.next();
+			vertexCount++;
+			vertexLabels.merge(vertex.label(), 1L, Long::sum);
+
+			// every edge is seen once from its out vertex
+			seen.clear();
+			for (Iterator<Edge> edges = vertex.edges(Direction.OUT); edges.hasNext();) {
+				String label = edges.next().label();
+				edgeCount++;
+				edgeLabels.merge(label, 1L, Long::sum);
+				if (seen.add(label)) {
+					outVertices.merge(label, 1L, Long::sum);
+				}
+			}
+			seen.clear();
+			for (Iterator<Edge> edges = vertex.edges(Direction.IN); edges.hasNext();) {
+				String label = edges.next().label();
+				if (seen.add(label)) {
+					inVertices.merge(label, 1L, Long::sum);
+				}
+			}
+
+			for (Iterator<VertexProperty<Object>> properties = vertex.properties(); properties.hasNext();) {
+				VertexProperty<Object> property = properties.next();
+				propertyCounts.merge(property.key(), 1L, Long::sum);
+				values.computeIfAbsent(property.key(), k -> new HashSet<>()).add(property.value());
+			}
+		}
+
+		Map<String, Long> distinctValues = new HashMap<>();
+		values.forEach((key, set) -> distinctValues.put(key, (long) set.size()));
+		return new GraphStatistics(vertexCount, edgeCount, vertexLabels, edgeLabels, outVertices, inVertices,
+				propertyCounts, distinctValues);
+	}
+
+	/**
+	 * Statistics for a graph {@code factor} times the size of this one, with the
+	 * same label mix and degrees. Distinct value counts are not scaled: the
+	 * sample is assumed to already hold every value of each property, so a
+	 * larger graph repeats values and an equality filter keeps the same
+	 * fraction of vertices. For keys unique per vertex this underestimates
+	 * the distinct count and overestimates how many vertices match.
+	 */
+	public GraphStatistics scale(double factor) {
+		return new GraphStatistics(Math.round(vertexCount * factor), Math.round(edgeCount * factor),
+				scale(vertexLabels, factor), scale(edgeLabels, factor), scale(outVertices, factor),
+				scale(inVertices, factor), scale(propertyCounts, factor), distinctValues);
+	}
+
+	public long getVertexCount() {
+		return vertexCount;
+	}
+
+	public long getEdgeCount() {
+		return edgeCount;
+	}
+
+	public long getVertexCount(String label) {
+		return vertexLabels.getOrDefault(label, 0L);
+	}
+
+	public long getEdgeCount(String label) {
+		return edgeLabels.getOrDefault(label, 0L);
+	}
+
+	/**
+	 * Expected number of edges a vertex has in {@code direction} with one of
+	 * {@code labels}, or with any label if none are given. Over several labels
+	 * this is the sum of the per-label degrees, an upper bound.
+	 */
+	public double averageDegree(Direction direction, String... labels) {
+		if (direction == Direction.BOTH) {
+			return averageDegree(Direction.OUT, labels) + averageDegree(Direction.IN, labels);
+		}
+		Map<String, Long> vertices = direction == Direction.OUT ? outVertices : inVertices;
+		Collection<String> names = labels.length > 0 ? Arrays.asList(labels) : edgeLabels.keySet();
+		double degree = 0;
+		for (String label : names) {
+			long edges = edgeLabels.getOrDefault(label, 0L);
+			if (edges > 0) {
+				degree += (double) edges / vertices.getOrDefault(label, 1L);
+			}
+		}
+		return degree;
+	}
+
+	/** Fraction of vertices ({@code vertices == true}) or edges carrying one of {@code labels}. */
+	public double labelFraction(boolean vertices, Collection<?> labels) {
+		long total = vertices ? vertexCount : edgeCount;
+		if (total == 0) {
+			return 0;
+		}
+		Map<String, Long> counts = vertices ? vertexLabels : edgeLabels;
+		long matching = 0;
+		for (Object label : labels) {
+			matching += counts.getOrDefault(String.valueOf(label), 0L);
+		}
+		return Math.min(1, (double) matching / total);
+	}
+
+	/** Fraction of vertices that have the property {@code key} at all. */
+	public double presence(String key) {
+		return vertexCount == 0 ? 0 : Math.min(1, (double) propertyCounts.getOrDefault(key, 0L) / vertexCount);
+	}
+
+	/** Fraction of vertices whose {@code key} equals one of {@code values} distinct values, assuming a uniform spread. */
+	public double equalitySelectivity(String key, int values) {
+		long distinct = distinctValues.getOrDefault(key, 0L);
+		return distinct == 0 ? 0 : presence(key) * Math.min(1, (double) values / distinct);
+	}
+
+	@Override
+	public String toString() {
+		return "vertices=" + vertexCount + ", edges=" + edgeCount + ", vertexLabels=" + vertexLabels
+				+ ", edgeLabels=" + edgeLabels;
+	}
+
+	private static Map<String, Long> scale(Map<String, Long> counts, double factor) {
+		Map<String, Long> scaled = new HashMap<>();
+		counts.forEach((key, count) -> scaled.put(key, Math.max(1, Math.round(count * factor))));
+		return scaled;
+	}
+
+}
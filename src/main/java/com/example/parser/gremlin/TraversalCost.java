@@ -0,0 +1,48 @@
+package com.example.parser.gremlin;
+
+import java.util.Collections;
+import java.util.Set;
+
+/**
+ * Result of {@link TraversalCostEstimator#estimate}: the estimated work in
+ * traverser steps, the estimated number of results, and the expensive shapes
+ * that were found.
+ */
+public final class TraversalCost {
+
+	private final double cost;
+	private final double cardinality;
+	private final Set<CostFlag> flags;
+
+	TraversalCost(double cost, double cardinality, Set<CostFlag> flags) {
+		this.cost = cost;
+		this.cardinality = cardinality;
+		this.flags = Collections.unmodifiableSet(flags);
+	}
+
+	public double getCost() {
+		return cost;
+	}
+
+	public double getCardinality() {
+		return cardinality;
+	}
+
+	public Set<CostFlag> getFlags() {
+		return flags;
+	}
+
+	/**
+	 * Over budget, or bounded only by the estimator's assumed repeat depth, so
+	 * the real cost may be far higher than estimated.
+	 */
+	public boolean isExpensive() {
+		return flags.contains(CostFlag.OVER_BUDGET) || flags.contains(CostFlag.UNBOUNDED_REPEAT);
+	}
+
+	@Override
+	public String toString() {
+		return String.format("cost=%.3g, results=%.3g, flags=%s", cost, cardinality, flags);
+	}
+
+}
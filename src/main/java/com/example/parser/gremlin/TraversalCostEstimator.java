@@ -0,0 +1,321 @@
+package com.example.parser.gremlin;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.BiPredicate;
+
+import org.apache.tinkerpop.gremlin.process.traversal.Compare;
+import org.apache.tinkerpop.gremlin.process.traversal.Contains;
+import org.apache.tinkerpop.gremlin.process.traversal.Step;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.lambda.LoopTraversal;
+import org.apache.tinkerpop.gremlin.process.traversal.step.TraversalParent;
+import org.apache.tinkerpop.gremlin.process.traversal.step.branch.BranchStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.branch.RepeatStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.branch.UnionStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.filter.DedupGlobalStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.filter.FilterStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.filter.HasStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.filter.RangeGlobalStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.EdgeOtherVertexStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.EdgeVertexStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.GraphStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.MatchStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.VertexStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.CollectingBarrierStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.HasContainer;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.ReducingBarrierStep;
+import org.apache.tinkerpop.gremlin.structure.Direction;
+import org.apache.tinkerpop.gremlin.structure.T;
+
+/**
+ * Static cost model for Gremlin traversals, evaluated on the step sequence
+ * before anything runs so that a server can reject a traversal up front.
+ * <p>
+ * The walk carries an estimated number of traversers from step to step using
+ * {@link GraphStatistics}: {@code V()}/{@code E()} start with the element
+ * count, {@code out}/{@code in}/{@code both} multiply by the average degree of
+ * their edge labels, {@code has} filters by label share or value selectivity,
+ * {@code dedup} caps at the element count and barriers like {@code count}
+ * reduce to one. The cost is the sum of the traversers entering every step,
+ * with edges counted where they are read. Child traversals of {@code where},
+ * {@code by}, {@code union}, {@code match} and the like are costed per
+ * traverser. A {@code repeat} runs its body {@code times()} rounds, or
+ * {@code repeatDepth} rounds when it has no loop bound.
+ * <p>
+ * The estimate is pessimistic on purpose: a {@code limit} caps the traversers
+ * it passes on but not the work upstream of it, since a barrier in between
+ * would make all of that work happen anyway. Strategies are not applied, so
+ * the traversal can be checked straight out of the script engine.
+ * <p>
+ * Instances are immutable and thread safe.
+ */
+public class TraversalCostEstimator {
+
+	public static final double DEFAULT_BUDGET = 1_000_000;
+	public static final int DEFAULT_REPEAT_DEPTH = 8;
+	public static final int DEFAULT_CHAIN_LIMIT = 3;
+
+	// share of traversers passing a filter the model cannot see into
+	private static final double FILTER_SELECTIVITY = 0.5;
+	// share of the vertices with a property passing a range or text predicate
+	private static final double RANGE_SELECTIVITY = 1.0 / 3;
+	// beyond any budget; keeps the arithmetic away from infinity
+	private static final double SATURATED = 1e18;
+
+	private final GraphStatistics stats;
+	private final double budget;
+	private final int repeatDepth;
+	private final int chainLimit;
+
+	public TraversalCostEstimator(GraphStatistics stats) {
+		this(stats, DEFAULT_BUDGET, DEFAULT_REPEAT_DEPTH, DEFAULT_CHAIN_LIMIT);
+	}
+
+	/**
+	 * @param budget      cost above which {@link CostFlag#OVER_BUDGET} is set
+	 * @param repeatDepth rounds assumed for a {@code repeat} without {@code times}
+	 * @param chainLimit  expansion steps in a row that set {@link CostFlag#LONG_EXPANSION}
+	 */
+	public TraversalCostEstimator(GraphStatistics stats, double budget, int repeatDepth, int chainLimit) {
+		this.stats = stats;
+		this.budget = budget;
+		this.repeatDepth = repeatDepth;
+		this.chainLimit = chainLimit;
+	}
+
+	public TraversalCost estimate(Traversal.Admin<?, ?> traversal) {
+		Walk walk = new Walk();
+		double results = walk.traversal(traversal, 1);
+		if (walk.cost > budget) {
+			walk.flags.add(CostFlag.OVER_BUDGET);
+		}
+		return new TraversalCost(walk.cost, results, walk.flags);
+	}
+
+	public GraphStatistics getStatistics() {
+		return stats;
+	}
+
+	private final class Walk {
+
+		final Set<CostFlag> flags = EnumSet.noneOf(CostFlag.class);
+		double cost;
+		// traversers are edges rather than vertices
+		boolean edges;
+		// expansion steps since the last dedup, limit or barrier
+		int chain;
+
+		@SuppressWarnings("rawtypes")
+		double traversal(Traversal.Admin<?, ?> traversal, double n) {
+			List<Step> steps = traversal.getSteps();
+			for (int i = 0; i < steps.size(); i++) {
+				n = Math.min(SATURATED, step(steps, i, n));
+			}
+			return n;
+		}
+
+		// traversers leaving steps[i] when n enter it
+		@SuppressWarnings("rawtypes")
+		double step(List<Step> steps, int i, double n) {
+			Step<?, ?> step = steps.get(i);
+			if (step instanceof GraphStep) {
+				return graph((GraphStep<?, ?>) step, n);
+			}
+			if (step instanceof VertexStep) {
+				return expand((VertexStep<?>) step, n);
+			}
+			if (step instanceof EdgeVertexStep || step instanceof EdgeOtherVertexStep) {
+				boolean both = step instanceof EdgeVertexStep && ((EdgeVertexStep) step).getDirection() == Direction.BOTH;
+				edges = false;
+				n *= both ? 2 : 1;
+				cost += n;
+				return n;
+			}
+			if (step instanceof HasStep) {
+				cost += n;
+				return n * selectivity(((HasStep<?>) step).getHasContainers());
+			}
+			if (step instanceof RangeGlobalStep) {
+				RangeGlobalStep<?> range = (RangeGlobalStep<?>) step;
+				chain = 0;
+				cost += n;
+				return range.getHighRange() < 0 ? n : Math.min(n, range.getHighRange() - range.getLowRange());
+			}
+			if (step instanceof DedupGlobalStep) {
+				chain = 0;
+				cost += n;
+				children(step, n);
+				return Math.min(n, population());
+			}
+			if (step instanceof RepeatStep) {
+				return repeat(steps, i, (RepeatStep<?>) step, n);
+			}
+			if (step instanceof MatchStep) {
+				return match(step, n);
+			}
+			if (step instanceof BranchStep) {
+				return branch(step, n);
+			}
+			if (step instanceof ReducingBarrierStep) {
+				chain = 0;
+				cost += n;
+				children(step, n);
+				return 1;
+			}
+			if (step instanceof CollectingBarrierStep) {
+				cost += n * Math.log(n + 1) / Math.log(2);
+				children(step, n);
+				return n;
+			}
+			cost += n;
+			children(step, n);
+			return step instanceof FilterStep ? n * FILTER_SELECTIVITY : n;
+		}
+
+		double graph(GraphStep<?, ?> step, double n) {
+			Object[] ids = step.getIds();
+			edges = step.returnsEdge();
+			chain = 0;
+			double start = ids.length > 0 ? ids.length : population();
+			if (ids.length == 0) {
+				flags.add(CostFlag.FULL_SCAN);
+			}
+			cost += n * start;
+			return n * start;
+		}
+
+		double expand(VertexStep<?> step, double n) {
+			n *= stats.averageDegree(step.getDirection(), step.getEdgeLabels());
+			cost += n;
+			edges = step.returnsEdge();
+			if (++chain >= chainLimit) {
+				flags.add(CostFlag.LONG_EXPANSION);
+			}
+			return n;
+		}
+
+		@SuppressWarnings("rawtypes")
+		double repeat(List<Step> steps, int index, RepeatStep<?> step, double n) {
+			Traversal.Admin<?, ?> until = step.getUntilTraversal();
+			Traversal.Admin<?, ?> emit = step.getEmitTraversal();
+			long loops = repeatDepth;
+			if (until instanceof LoopTraversal) {
+				loops = ((LoopTraversal<?>) until).getMaxLoops();
+				until = null;
+			} else if (!limited(steps, index)) {
+				flags.add(CostFlag.UNBOUNDED_REPEAT);
+			}
+			double current = n;
+			double left = 0;
+			for (long loop = 0; loop < loops && current > 0 && current < SATURATED; loop++) {
+				current = traversal(step.getRepeatTraversal(), current);
+				if (emit != null) {
+					left += current * Math.min(1, perTraverser(emit, current));
+				}
+				if (until != null) {
+					double done = current * Math.min(1, perTraverser(until, current));
+					left += done;
+					current -= done;
+				}
+			}
+			return left + current;
+		}
+
+		double match(Step<?, ?> step, double n) {
+			flags.add(CostFlag.MATCH);
+			cost += n;
+			double widest = 0;
+			for (Traversal.Admin<?, ?> pattern : ((TraversalParent) step).getGlobalChildren()) {
+				widest = Math.max(widest, perTraverser(pattern, n));
+			}
+			return n * widest;
+		}
+
+		double branch(Step<?, ?> step, double n) {
+			boolean union = step instanceof UnionStep;
+			cost += n;
+			double out = 0;
+			for (Traversal.Admin<?, ?> option : ((TraversalParent) step).getGlobalChildren()) {
+				double o = perTraverser(option, n);
+				out = union ? out + o : Math.max(out, o);
+			}
+			for (Traversal.Admin<?, ?> choice : ((TraversalParent) step).getLocalChildren()) {
+				perTraverser(choice, n);
+			}
+			return n * out;
+		}
+
+		void children(Step<?, ?> step, double n) {
+			if (step instanceof TraversalParent) {
+				for (Traversal.Admin<?, ?> child : ((TraversalParent) step).getGlobalChildren()) {
+					perTraverser(child, n);
+				}
+				for (Traversal.Admin<?, ?> child : ((TraversalParent) step).getLocalChildren()) {
+					perTraverser(child, n);
+				}
+			}
+		}
+
+		// runs a child for one traverser, charges it n times and returns its output per traverser
+		double perTraverser(Traversal.Admin<?, ?> child, double n) {
+			boolean parentEdges = edges;
+			int parentChain = chain;
+			double before = cost;
+			double out = traversal(child, 1);
+			cost = before + (cost - before) * n;
+			edges = parentEdges;
+			chain = parentChain;
+			return out;
+		}
+
+		double selectivity(List<HasContainer> containers) {
+			double selectivity = 1;
+			for (HasContainer container : containers) {
+				selectivity *= selectivity(container);
+			}
+			return selectivity;
+		}
+
+		double selectivity(HasContainer container) {
+			String key = container.getKey();
+			BiPredicate<?, ?> predicate = container.getBiPredicate();
+			Object value = container.getValue();
+			Collection<?> values = value instanceof Collection ? (Collection<?>) value : Collections.singleton(value);
+			boolean equality = predicate == Compare.eq || predicate == Contains.within;
+			boolean negated = predicate == Compare.neq || predicate == Contains.without;
+			double matching;
+			if (T.label.getAccessor().equals(key)) {
+				matching = stats.labelFraction(!edges, values);
+			} else if (T.id.getAccessor().equals(key)) {
+				matching = Math.min(1, values.size() / Math.max(1.0, population()));
+			} else if (edges) {
+				return FILTER_SELECTIVITY;
+			} else if (equality || negated) {
+				matching = stats.equalitySelectivity(key, values.size());
+				return equality ? matching : stats.presence(key) - matching;
+			} else {
+				return stats.presence(key) * RANGE_SELECTIVITY;
+			}
+			return equality ? matching : negated ? 1 - matching : FILTER_SELECTIVITY;
+		}
+
+		double population() {
+			return edges ? stats.getEdgeCount() : stats.getVertexCount();
+		}
+
+		@SuppressWarnings("rawtypes")
+		boolean limited(List<Step> steps, int index) {
+			for (int i = index + 1; i < steps.size(); i++) {
+				if (steps.get(i) instanceof RangeGlobalStep) {
+					return true;
+				}
+			}
+			return false;
+		}
+	}
+
+}
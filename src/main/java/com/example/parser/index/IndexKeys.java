@@ -0,0 +1,35 @@
+package com.example.parser.index;
+
+import com.example.parser.decode.Entry;
+import com.example.parser.decode.Operation;
+
+/**
+ * Index key spelling shared by the writer and the reader. Every entry is
+ * indexed twice, once under its operation and once under {@code *} for any
+ * operation, e.g. {@code insert|t|ds.orders} and {@code *|t|ds.orders}.
+ */
+final class IndexKeys {
+
+	private static final String ANY = "*";
+
+	private IndexKeys() {
+	}
+
+	static String table(Operation op, String db, String table) {
+		return prefix(op) + "|t|" + (db != null ? db + "." + table : table);
+	}
+
+	static String column(Operation op, String table, String column) {
+		return prefix(op) + "|c|" + (table != null ? table + "." + column : column);
+	}
+
+	static String of(Operation op, Entry entry) {
+		return entry.isColumn() ? column(op, entry.getTable(), entry.getColumn())
+				: table(op, entry.getDb(), entry.getTable());
+	}
+
+	private static String prefix(Operation op) {
+		return op == null ? ANY : op.name().toLowerCase();
+	}
+
+}
@@ -0,0 +1,124 @@
+package com.example.parser.index;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import com.example.parser.decode.Entry;
+import com.example.parser.decode.EntryDecoder;
+import com.example.parser.engine.ParseResult;
+
+/**
+ * Appends parse results to an index directory. Every statement gets the next
+ * id, failed parses included, so ids stay aligned with the position of the
+ * statement in its log. Postings are buffered in memory and written as a new
+ * {@link Segment} on {@link #flush()}, every {@code flushEvery} statements and
+ * on {@link #close()}; existing segments are never rewritten except by
+ * {@link #compact()}.
+ * <p>
+ * One writer per directory; instances are not thread safe.
+ */
+public class IndexWriter implements Closeable {
+
+	public static final int DEFAULT_FLUSH_EVERY = 100_000;
+
+	private final Path dir;
+	private final EntryDecoder decoder;
+	private final int flushEvery;
+	private final Map<String, PostingList> buffer = new HashMap<>();
+
+	private int nextId;
+	private int bufferedFrom;
+
+	public IndexWriter(Path dir) throws IOException {
+		this(dir, DEFAULT_FLUSH_EVERY);
+	}
+
+	public IndexWriter(Path dir, int flushEvery) throws IOException {
+		this.dir = Files.createDirectories(dir);
+		this.decoder = new EntryDecoder();
+		this.flushEvery = flushEvery;
+		for (Segment segment : QueryIndex.segments(dir)) {
+			nextId = Math.max(nextId, segment.getFirstId() + segment.getCount());
+		}
+		this.bufferedFrom = nextId;
+	}
+
+	/** Indexes one statement and returns its id. */
+	public int add(ParseResult result) throws IOException {
+		return add(result.getTableList(), result.getColumnList());
+	}
+
+	public int add(List<String> tableList, List<String> columnList) throws IOException {
+		int id = nextId++;
+		decoder.forEachTable(tableList, entry -> post(entry, id));
+		decoder.forEachColumn(columnList, entry -> post(entry, id));
+		if (nextId - bufferedFrom >= flushEvery) {
+			flush();
+		}
+		return id;
+	}
+
+	public int getNextId() {
+		return nextId;
+	}
+
+	/** Writes the buffered statements as a new segment, or returns {@code null} if there are none. */
+	public Path flush() throws IOException {
+		if (nextId == bufferedFrom) {
+			return null;
+		}
+		Path written = Segment.write(dir, bufferedFrom, nextId - bufferedFrom, new TreeMap<>(buffer));
+		buffer.clear();
+		bufferedFrom = nextId;
+		return written;
+	}
+
+	/**
+	 * Flushes, then merges every segment into one. Readers that still map the
+	 * old files keep working until they {@link QueryIndex#refresh()}.
+	 */
+	public Path compact() throws IOException {
+		flush();
+		List<Segment> segments = QueryIndex.segments(dir);
+		if (segments.size() < 2) {
+			return segments.isEmpty() ? null : segments.get(0).getPath();
+		}
+		TreeMap<String, PostingList> merged = new TreeMap<>();
+		int firstId = Integer.MAX_VALUE;
+		int endId = 0;
+		for (Segment segment : segments) {
+			firstId = Math.min(firstId, segment.getFirstId());
+			endId = Math.max(endId, segment.getFirstId() + segment.getCount());
+			segment.forEach((key, list) -> merged.merge(key, list, PostingList::or));
+		}
+		Path written = Segment.write(dir, firstId, endId - firstId, merged);
+		List<Path> obsolete = new ArrayList<>();
+		for (Segment segment : segments) {
+			if (!segment.getPath().equals(written)) {
+				obsolete.add(segment.getPath());
+			}
+		}
+		for (Path path : obsolete) {
+			Files.deleteIfExists(path);
+		}
+		return written;
+	}
+
+	@Override
+	public void close() throws IOException {
+		flush();
+	}
+
+	private void post(Entry entry, int id) {
+		buffer.computeIfAbsent(IndexKeys.of(entry.getOperation(), entry), k -> new PostingList()).add(id);
+		buffer.computeIfAbsent(IndexKeys.of(null, entry), k -> new PostingList()).add(id);
+	}
+
+}
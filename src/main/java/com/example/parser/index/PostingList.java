@@ -0,0 +1,414 @@
+package com.example.parser.index;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+/**
+ * Compressed set of statement ids in the roaring layout: ids are split on
+ * their high 16 bits into containers, and each container holds its low 16
+ * bits either as a sorted {@code char[]} (up to {@value #ARRAY_MAX} ids) or as
+ * a 65536-bit {@code long[]} bitmap. Sparse lists cost two bytes per id, dense
+ * ones one bit, and unions and intersections work container by container.
+ * <p>
+ * Serialized form: container count, then per container its key and
+ * cardinality followed by either the sorted low bits or the 1024 bitmap words.
+ */
+public final class PostingList {
+
+	static final int ARRAY_MAX = 4096;
+
+	private static final int BITMAP_WORDS = 1024;
+
+	private char[] keys;
+	private Object[] containers;
+	private int[] cardinalities;
+	private int size;
+
+	public PostingList() {
+		this(4);
+	}
+
+	private PostingList(int capacity) {
+		keys = new char[capacity];
+		containers = new Object[capacity];
+		cardinalities = new int[capacity];
+	}
+
+	public static PostingList of(int... ids) {
+		PostingList list = new PostingList();
+		for (int id : ids) {
+			list.add(id);
+		}
+		return list;
+	}
+
+	public void add(int id) {
+		char key = (char) (id >>> 16);
+		char low = (char) id;
+		int at = size > 0 && keys[size - 1] == key ? size - 1 : Arrays.binarySearch(keys, 0, size, key);
+		if (at < 0) {
+			at = -at - 1;
+			insertContainer(at, key, new char[4], 0);
+		}
+		Object container = containers[at];
+		if (container instanceof long[]) {
+			long[] bitmap = (long[]) container;
+			long bit = 1L << low;
+			if ((bitmap[low >>> 6] & bit) == 0) {
+				bitmap[low >>> 6] |= bit;
+				cardinalities[at]++;
+			}
+			return;
+		}
+		char[] array = (char[]) container;
+		int card = cardinalities[at];
+		// statements are added in id order, so the common case is an append
+		int pos = card > 0 && array[card - 1] < low ? -card - 1 : Arrays.binarySearch(array, 0, card, low);
+		if (pos >= 0) {
+			return;
+		}
+		pos = -pos - 1;
+		if (card == ARRAY_MAX) {
+			long[] bitmap = toBitmap(array, card);
+			bitmap[low >>> 6] |= 1L << low;
+			containers[at] = bitmap;
+			cardinalities[at] = card + 1;
+			return;
+		}
+		if (card == array.length) {
+			array = Arrays.copyOf(array, Math.min(ARRAY_MAX, card << 1));
+			containers[at] = array;
+		}
+		System.arraycopy(array, pos, array, pos + 1, card - pos);
+		array[pos] = low;
+		cardinalities[at] = card + 1;
+	}
+
+	public boolean contains(int id) {
+		int at = Arrays.binarySearch(keys, 0, size, (char) (id >>> 16));
+		if (at < 0) {
+			return false;
+		}
+		char low = (char) id;
+		Object container = containers[at];
+		if (container instanceof long[]) {
+			return (((long[]) container)[low >>> 6] & 1L << low) != 0;
+		}
+		return Arrays.binarySearch((char[]) container, 0, cardinalities[at], low) >= 0;
+	}
+
+	public int cardinality() {
+		int total = 0;
+		for (int i = 0; i < size; i++) {
+			total += cardinalities[i];
+		}
+		return total;
+	}
+
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	public void forEach(IntConsumer consumer) {
+		for (int i = 0; i < size; i++) {
+			int high = keys[i] << 16;
+			Object container = containers[i];
+			if (container instanceof long[]) {
+				long[] bitmap = (long[]) container;
+				for (int w = 0; w < BITMAP_WORDS; w++) {
+					for (long word = bitmap[w]; word != 0; word &= word - 1) {
+						consumer.accept(high | w << 6 | Long.numberOfTrailingZeros(word));
+					}
+				}
+			} else {
+				char[] array = (char[]) container;
+				for (int j = 0; j < cardinalities[i]; j++) {
+					consumer.accept(high | array[j]);
+				}
+			}
+		}
+	}
+
+	public int[] toArray() {
+		int[] ids = new int[cardinality()];
+		int[] n = new int[1];
+		forEach(id -> ids[n[0]++] = id);
+		return ids;
+	}
+
+	public static PostingList or(PostingList a, PostingList b) {
+		PostingList result = new PostingList(a.size + b.size);
+		int i = 0;
+		int j = 0;
+		while (i < a.size || j < b.size) {
+			if (j == b.size || i < a.size && a.keys[i] < b.keys[j]) {
+				result.appendCopy(a, i++);
+			} else if (i == a.size || b.keys[j] < a.keys[i]) {
+				result.appendCopy(b, j++);
+			} else {
+				result.appendOr(a.keys[i], a.containers[i], a.cardinalities[i], b.containers[j], b.cardinalities[j]);
+				i++;
+				j++;
+			}
+		}
+		return result;
+	}
+
+	public static PostingList and(PostingList a, PostingList b) {
+		PostingList result = new PostingList(Math.min(a.size, b.size) + 1);
+		int i = 0;
+		int j = 0;
+		while (i < a.size && j < b.size) {
+			if (a.keys[i] < b.keys[j]) {
+				i++;
+			} else if (b.keys[j] < a.keys[i]) {
+				j++;
+			} else {
+				result.appendAnd(a.keys[i], a.containers[i], a.cardinalities[i], b.containers[j], b.cardinalities[j]);
+				i++;
+				j++;
+			}
+		}
+		return result;
+	}
+
+	/** Ids in {@code a} that are not in {@code b}. */
+	public static PostingList andNot(PostingList a, PostingList b) {
+		PostingList result = new PostingList(a.size + 1);
+		for (int i = 0; i < a.size; i++) {
+			int at = Arrays.binarySearch(b.keys, 0, b.size, a.keys[i]);
+			if (at < 0) {
+				result.appendCopy(a, i);
+				continue;
+			}
+			long[] bitmap = toBitmap(a.containers[i], a.cardinalities[i]);
+			Object other = b.containers[at];
+			if (other instanceof long[]) {
+				long[] mask = (long[]) other;
+				for (int w = 0; w < BITMAP_WORDS; w++) {
+					bitmap[w] &= ~mask[w];
+				}
+			} else {
+				char[] array = (char[]) other;
+				for (int k = 0; k < b.cardinalities[at]; k++) {
+					bitmap[array[k] >>> 6] &= ~(1L << array[k]);
+				}
+			}
+			result.appendBitmap(a.keys[i], bitmap);
+		}
+		return result;
+	}
+
+	public int serializedSize() {
+		int bytes = 4;
+		for (int i = 0; i < size; i++) {
+			bytes += 6 + (cardinalities[i] > ARRAY_MAX ? BITMAP_WORDS * 8 : cardinalities[i] * 2);
+		}
+		return bytes;
+	}
+
+	public void writeTo(ByteBuffer out) {
+		out.putInt(size);
+		for (int i = 0; i < size; i++) {
+			out.putChar(keys[i]);
+			out.putInt(cardinalities[i]);
+			Object container = containers[i];
+			if (container instanceof long[]) {
+				for (long word : (long[]) container) {
+					out.putLong(word);
+				}
+			} else {
+				char[] array = (char[]) container;
+				for (int j = 0; j < cardinalities[i]; j++) {
+					out.putChar(array[j]);
+				}
+			}
+		}
+	}
+
+	public static PostingList readFrom(ByteBuffer in) {
+		int count = in.getInt();
+		PostingList list = new PostingList(Math.max(count, 1));
+		for (int i = 0; i < count; i++) {
+			char key = in.getChar();
+			int card = in.getInt();
+			Object container;
+			if (card > ARRAY_MAX) {
+				long[] bitmap = new long[BITMAP_WORDS];
+				in.asLongBuffer().get(bitmap);
+				in.position(in.position() + BITMAP_WORDS * 8);
+				container = bitmap;
+			} else {
+				char[] array = new char[card];
+				in.asCharBuffer().get(array);
+				in.position(in.position() + card * 2);
+				container = array;
+			}
+			list.keys[i] = key;
+			list.containers[i] = container;
+			list.cardinalities[i] = card;
+		}
+		list.size = count;
+		return list;
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		return o instanceof PostingList && Arrays.equals(toArray(), ((PostingList) o).toArray());
+	}
+
+	@Override
+	public int hashCode() {
+		return Arrays.hashCode(toArray());
+	}
+
+	@Override
+	public String toString() {
+		return Arrays.toString(toArray());
+	}
+
+	private void appendCopy(PostingList from, int i) {
+		Object container = from.containers[i];
+		Object copy = container instanceof long[] ? ((long[]) container).clone()
+				: Arrays.copyOf((char[]) container, Math.max(from.cardinalities[i], 1));
+		insertContainer(size, from.keys[i], copy, from.cardinalities[i]);
+	}
+
+	private void appendOr(char key, Object a, int cardA, Object b, int cardB) {
+		if (a instanceof char[] && b instanceof char[] && cardA + cardB <= ARRAY_MAX) {
+			char[] x = (char[]) a;
+			char[] y = (char[]) b;
+			char[] merged = new char[cardA + cardB];
+			int i = 0;
+			int j = 0;
+			int n = 0;
+			while (i < cardA && j < cardB) {
+				if (x[i] < y[j]) {
+					merged[n++] = x[i++];
+				} else if (x[i] > y[j]) {
+					merged[n++] = y[j++];
+				} else {
+					merged[n++] = x[i++];
+					j++;
+				}
+			}
+			while (i < cardA) {
+				merged[n++] = x[i++];
+			}
+			while (j < cardB) {
+				merged[n++] = y[j++];
+			}
+			insertContainer(size, key, merged, n);
+			return;
+		}
+		long[] bitmap = toBitmap(a, cardA);
+		if (b instanceof long[]) {
+			long[] other = (long[]) b;
+			for (int w = 0; w < BITMAP_WORDS; w++) {
+				bitmap[w] |= other[w];
+			}
+		} else {
+			char[] array = (char[]) b;
+			for (int k = 0; k < cardB; k++) {
+				bitmap[array[k] >>> 6] |= 1L << array[k];
+			}
+		}
+		appendBitmap(key, bitmap);
+	}
+
+	private void appendAnd(char key, Object a, int cardA, Object b, int cardB) {
+		if (a instanceof long[] && b instanceof long[]) {
+			long[] bitmap = ((long[]) a).clone();
+			long[] other = (long[]) b;
+			for (int w = 0; w < BITMAP_WORDS; w++) {
+				bitmap[w] &= other[w];
+			}
+			appendBitmap(key, bitmap);
+			return;
+		}
+		if (a instanceof long[]) {
+			appendAnd(key, b, cardB, a, cardA);
+			return;
+		}
+		char[] x = (char[]) a;
+		char[] kept = new char[cardA];
+		int n = 0;
+		if (b instanceof long[]) {
+			long[] bitmap = (long[]) b;
+			for (int i = 0; i < cardA; i++) {
+				if ((bitmap[x[i] >>> 6] & 1L << x[i]) != 0) {
+					kept[n++] = x[i];
+				}
+			}
+		} else {
+			char[] y = (char[]) b;
+			for (int i = 0, j = 0; i < cardA && j < cardB;) {
+				if (x[i] < y[j]) {
+					i++;
+				} else if (x[i] > y[j]) {
+					j++;
+				} else {
+					kept[n++] = x[i];
+					i++;
+					j++;
+				}
+			}
+		}
+		if (n > 0) {
+			insertContainer(size, key, kept, n);
+		}
+	}
+
+	// a bitmap that fell to array size is stored as an array again
+	private void appendBitmap(char key, long[] bitmap) {
+		int card = 0;
+		for (long word : bitmap) {
+			card += Long.bitCount(word);
+		}
+		if (card == 0) {
+			return;
+		}
+		if (card > ARRAY_MAX) {
+			insertContainer(size, key, bitmap, card);
+			return;
+		}
+		char[] array = new char[card];
+		int n = 0;
+		for (int w = 0; w < BITMAP_WORDS; w++) {
+			for (long word = bitmap[w]; word != 0; word &= word - 1) {
+				array[n++] = (char) (w << 6 | Long.numberOfTrailingZeros(word));
+			}
+		}
+		insertContainer(size, key, array, card);
+	}
+
+	private void insertContainer(int at, char key, Object container, int card) {
+		if (size == keys.length) {
+			int capacity = Math.max(4, size << 1);
+			keys = Arrays.copyOf(keys, capacity);
+			containers = Arrays.copyOf(containers, capacity);
+			cardinalities = Arrays.copyOf(cardinalities, capacity);
+		}
+		System.arraycopy(keys, at, keys, at + 1, size - at);
+		System.arraycopy(containers, at, containers, at + 1, size - at);
+		System.arraycopy(cardinalities, at, cardinalities, at + 1, size - at);
+		keys[at] = key;
+		containers[at] = container;
+		cardinalities[at] = card;
+		size++;
+	}
+
+	private static long[] toBitmap(Object container, int card) {
+		if (container instanceof long[]) {
+			return ((long[]) container).clone();
+		}
+		char[] array = (char[]) container;
+		long[] bitmap = new long[BITMAP_WORDS];
+		for (int i = 0; i < card; i++) {
+			bitmap[array[i] >>> 6] |= 1L << array[i];
+		}
+		return bitmap;
+	}
+
+}
@@ -0,0 +1,119 @@
+package com.example.parser.index;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.example.parser.decode.Operation;
+
+/**
+ * Read side of an index directory written by {@link IndexWriter}: maps every
+ * segment and answers which statement ids touch a table or column. A lookup
+ * binary searches each segment's key table and unions the matching posting
+ * lists; combine lookups with {@link PostingList#and}, {@link PostingList#or}
+ * and {@link PostingList#andNot}.
+ * <p>
+ * Lookups are thread safe. New segments appended by a writer, and the result
+ * of a compaction, become visible on {@link #refresh()}.
+ */
+public class QueryIndex {
+
+	private final Path dir;
+	private volatile List<Segment> segments;
+
+	private QueryIndex(Path dir) throws IOException {
+		this.dir = dir;
+		this.segments = segments(dir);
+	}
+
+	public static QueryIndex open(Path dir) throws IOException {
+		return new QueryIndex(dir);
+	}
+
+	public synchronized void refresh() throws IOException {
+		Map<Path, Segment> mapped = new HashMap<>();
+		for (Segment segment : segments) {
+			mapped.put(segment.getPath(), segment);
+		}
+		List<Segment> current = new ArrayList<>();
+		for (Path path : segmentPaths(dir)) {
+			Segment segment = mapped.get(path);
+			// a compaction may have replaced a file under the same name
+			if (segment == null || !segment.getVersion().equals(Segment.version(path))) {
+				segment = Segment.open(path);
+			}
+			current.add(segment);
+		}
+		segments = current;
+	}
+
+	/** Statements reading or writing {@code db.table}; {@code db} may be {@code null} for unqualified references. */
+	public PostingList table(String db, String table) {
+		return postings(IndexKeys.table(null, db, table));
+	}
+
+	public PostingList table(Operation op, String db, String table) {
+		return postings(IndexKeys.table(op, db, table));
+	}
+
+	/** Statements referencing {@code table.column}; the grammar's table part may be an alias or {@code null}. */
+	public PostingList column(String table, String column) {
+		return postings(IndexKeys.column(null, table, column));
+	}
+
+	public PostingList column(Operation op, String table, String column) {
+		return postings(IndexKeys.column(op, table, column));
+	}
+
+	public PostingList postings(String key) {
+		PostingList result = null;
+		for (Segment segment : segments) {
+			PostingList list = segment.get(key);
+			if (list != null) {
+				result = result == null ? list : PostingList.or(result, list);
+			}
+		}
+		return result != null ? result : new PostingList();
+	}
+
+	public int getStatementCount() {
+		int end = 0;
+		for (Segment segment : segments) {
+			end = Math.max(end, segment.getFirstId() + segment.getCount());
+		}
+		return end;
+	}
+
+	public int getSegmentCount() {
+		return segments.size();
+	}
+
+	static List<Segment> segments(Path dir) throws IOException {
+		List<Segment> segments = new ArrayList<>();
+		for (Path path : segmentPaths(dir)) {
+			segments.add(Segment.open(path));
+		}
+		return segments;
+	}
+
+	private static List<Path> segmentPaths(Path dir) throws IOException {
+		if (!Files.isDirectory(dir)) {
+			return Collections.emptyList();
+		}
+		List<Path> paths = new ArrayList<>();
+		try (DirectoryStream<Path> files = Files.newDirectoryStream(dir, Segment.PREFIX + "*" + Segment.SUFFIX)) {
+			for (Path path : files) {
+				paths.add(path);
+			}
+		}
+		Collections.sort(paths);
+		return paths;
+	}
+
+}
@@ -0,0 +1,167 @@
+package com.example.parser.index;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.function.BiConsumer;
+
+/**
+ * One immutable, memory-mapped index file covering the statement ids
+ * {@code [firstId, firstId + count)}.
+ * <p>
+ * Layout: magic, version, firstId, count, key count, then one absolute offset
+ * per key in key order, then the key records. A record is the UTF-8 key
+ * prefixed with its length, followed by the serialized {@link PostingList}
+ * prefixed with its byte length. Lookups binary search the offset table in
+ * place; only the matching posting list is decoded.
+ */
+final class Segment {
+
+	static final String PREFIX = "segment-";
+	static final String SUFFIX = ".pqi";
+
+	private static final int MAGIC = 0x50514958;
+	private static final int VERSION = 1;
+	private static final int HEADER = 20;
+
+	private final Path path;
+	private final Object version;
+	private final MappedByteBuffer buffer;
+	private final int firstId;
+	private final int count;
+	private final int keyCount;
+
+	private Segment(Path path, Object version, MappedByteBuffer buffer) throws IOException {
+		this.path = path;
+		this.version = version;
+		this.buffer = buffer;
+		if (buffer.capacity() < HEADER || buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION) {
+			throw new IOException("not an index segment : " + path);
+		}
+		this.firstId = buffer.getInt(8);
+		this.count = buffer.getInt(12);
+		this.keyCount = buffer.getInt(16);
+	}
+
+	static Segment open(Path path) throws IOException {
+		Object version = version(path);
+		try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+			return new Segment(path, version, channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+		}
+	}
+
+	static Path fileName(Path dir, int firstId) {
+		return dir.resolve(String.format("%s%010d%s", PREFIX, firstId, SUFFIX));
+	}
+
+	// written to a temporary file and moved into place, so readers never see a partial segment
+	static Path write(Path dir, int firstId, int count, SortedMap<String, PostingList> postings) throws IOException {
+		byte[][] keys = new byte[postings.size()][];
+		int size = HEADER + postings.size() * 4;
+		int k = 0;
+		for (Map.Entry<String, PostingList> e : postings.entrySet()) {
+			keys[k] = e.getKey().getBytes(StandardCharsets.UTF_8);
+			if (keys[k].length > 0xffff) {
+				throw new IllegalArgumentException("index key too long : " + e.getKey().substring(0, 64) + "...");
+			}
+			size += 2 + keys[k].length + 4 + e.getValue().serializedSize();
+			k++;
+		}
+
+		ByteBuffer out = ByteBuffer.allocate(size);
+		out.putInt(MAGIC).putInt(VERSION).putInt(firstId).putInt(count).putInt(keys.length);
+		int offset = HEADER + keys.length * 4;
+		k = 0;
+		for (PostingList list : postings.values()) {
+			out.putInt(offset);
+			offset += 2 + keys[k++].length + 4 + list.serializedSize();
+		}
+		k = 0;
+		for (PostingList list : postings.values()) {
+			out.putShort((short) keys[k].length).put(keys[k++]);
+			out.putInt(list.serializedSize());
+			list.writeTo(out);
+		}
+		out.flip();
+
+		Path target = fileName(dir, firstId);
+		Path temp = dir.resolve(target.getFileName() + ".tmp");
+		try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+				StandardOpenOption.TRUNCATE_EXISTING)) {
+			while (out.hasRemaining()) {
+				channel.write(out);
+			}
+			channel.force(true);
+		}
+		return Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+	}
+
+	// identifies the file behind a name, which compaction replaces in place
+	static Object version(Path path) throws IOException {
+		BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+		Object key = attributes.fileKey();
+		return key != null ? key : attributes.lastModifiedTime() + ":" + attributes.size();
+	}
+
+	Object getVersion() {
+		return version;
+	}
+
+	Path getPath() {
+		return path;
+	}
+
+	int getFirstId() {
+		return firstId;
+	}
+
+	int getCount() {
+		return count;
+	}
+
+	PostingList get(String key) {
+		ByteBuffer view = buffer.duplicate();
+		int low = 0;
+		int high = keyCount - 1;
+		while (low <= high) {
+			int mid = (low + high) >>> 1;
+			view.position(view.getInt(HEADER + mid * 4));
+			int cmp = readKey(view).compareTo(key);
+			if (cmp < 0) {
+				low = mid + 1;
+			} else if (cmp > 0) {
+				high = mid - 1;
+			} else {
+				view.getInt();
+				return PostingList.readFrom(view);
+			}
+		}
+		return null;
+	}
+
+	void forEach(BiConsumer<String, PostingList> consumer) {
+		ByteBuffer view = buffer.duplicate();
+		for (int i = 0; i < keyCount; i++) {
+			view.position(view.getInt(HEADER + i * 4));
+			String key = readKey(view);
+			view.getInt();
+			consumer.accept(key, PostingList.readFrom(view));
+		}
+	}
+
+	private static String readKey(ByteBuffer view) {
+		byte[] bytes = new byte[view.getShort() & 0xffff];
+		view.get(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+}
@@ -0,0 +1,36 @@
+package com.example.parser.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name(ParserEvents.PREFIX + "CacheLookup")
+@Label("Cache Lookup")
+@Description("Lookup in a per-JVM grammar or source cache; a miss includes filling the entry")
+@Category(ParserEvents.CATEGORY)
+@StackTrace(false)
+public final class CacheLookupEvent extends Event {
+
+	@Label("Cache")
+	String cache;
+
+	@Label("Key")
+	String key;
+
+	@Label("Hit")
+	boolean hit;
+
+	public void finish(String cache, String key, boolean hit) {
+		end();
+		if (shouldCommit()) {
+			this.cache = cache;
+			this.key = key;
+			this.hit = hit;
+			commit();
+		}
+	}
+
+}
@@ -0,0 +1,11 @@
+package com.example.parser.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name(ParserEvents.PREFIX + "Convert")
+@Label("Result Conversion")
+@Description("Copying an engine-side parse result into Java objects")
+public final class ConvertEvent extends StatementEvent {
+}
@@ -0,0 +1,42 @@
+package com.example.parser.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name(ParserEvents.PREFIX + "EngineCheckout")
+@Label("Engine Checkout")
+@Description("Wait for an idle engine in a shared pool")
+@Category({ ParserEvents.CATEGORY, "Engine Pool" })
+@StackTrace(false)
+public final class EngineCheckoutEvent extends Event {
+
+	@Label("Engine")
+	String engine;
+
+	@Label("Idle Engines")
+	@Description("Idle engines when the checkout started")
+	int idle;
+
+	@Label("Swapped")
+	@Description("A recycled replacement was swapped in on this checkout")
+	boolean swapped;
+
+	@Label("Outcome")
+	String outcome;
+
+	public void finish(Object engine, int idle, boolean swapped, String outcome) {
+		end();
+		if (shouldCommit()) {
+			this.engine = ParserEvents.engine(engine);
+			this.idle = idle;
+			this.swapped = swapped;
+			this.outcome = outcome;
+			commit();
+		}
+	}
+
+}
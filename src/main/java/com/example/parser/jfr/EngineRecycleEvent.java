@@ -0,0 +1,45 @@
+package com.example.parser.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name(ParserEvents.PREFIX + "EngineRecycle")
+@Label("Engine Recycle")
+@Description("Building and warming the replacement for a recycled engine")
+@Category({ ParserEvents.CATEGORY, "Engine Pool" })
+@StackTrace(false)
+public final class EngineRecycleEvent extends Event {
+
+	@Label("Engine")
+	String engine;
+
+	@Label("Reason")
+	@Description("parses, leak or unhealthy")
+	String reason;
+
+	@Label("Parses")
+	long parses;
+
+	@Label("Retained Handles")
+	long retainedHandles;
+
+	@Label("Outcome")
+	String outcome;
+
+	public void finish(Object engine, String reason, long parses, long retainedHandles, String outcome) {
+		end();
+		if (shouldCommit()) {
+			this.engine = ParserEvents.engine(engine);
+			this.reason = reason;
+			this.parses = parses;
+			this.retainedHandles = retainedHandles;
+			this.outcome = outcome;
+			commit();
+		}
+	}
+
+}
@@ -0,0 +1,11 @@
+package com.example.parser.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name(ParserEvents.PREFIX + "Parse")
+@Label("JS Parse")
+@Description("Call into the grammar's parse function, up to the engine-side result")
+public final class ParseEvent extends StatementEvent {
+}
@@ -0,0 +1,96 @@
+package com.example.parser.jfr;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.util.List;
+import java.util.Locale;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+
+import com.example.parser.engine.ParseResult;
+
+/**
+ * Shared vocabulary of the parser's flight recorder events, and a way to
+ * record them with the bundled {@code parser.jfc} settings.
+ * <p>
+ * Every event is created and timed unconditionally, which the JIT reduces to
+ * nothing while no recording is running; fields such as the verb are only
+ * computed once {@code shouldCommit()} says the event will be kept.
+ */
+public final class ParserEvents {
+
+	public static final String PREFIX = "com.example.parser.";
+	public static final String CATEGORY = "Parser";
+	public static final String SETTINGS = "parser.jfc";
+
+	/** Call returned normally. */
+	public static final String SUCCESS = "success";
+	/** Call returned a result that carries an error. */
+	public static final String FAILURE = "failure";
+	/** Call threw, e.g. a syntax error raised by the grammar. */
+	public static final String ERROR = "error";
+
+	private ParserEvents() {
+	}
+
+	public static String outcome(ParseResult result) {
+		return result.isSuccess() ? SUCCESS : FAILURE;
+	}
+
+	public static String outcome(List<ParseResult> results) {
+		for (ParseResult result : results) {
+			if (!result.isSuccess()) {
+				return FAILURE;
+			}
+		}
+		return SUCCESS;
+	}
+
+	public static String engine(Object engine) {
+		return engine != null ? engine.getClass().getSimpleName() : null;
+	}
+
+	/** Leading keyword, upper case, without scanning past it. */
+	public static String verb(String sql) {
+		int length = sql.length();
+		int start = 0;
+		while (start < length && !Character.isLetter(sql.charAt(start))) {
+			start++;
+		}
+		int end = start;
+		while (end < length && Character.isLetter(sql.charAt(end))) {
+			end++;
+		}
+		return sql.substring(start, end).toUpperCase(Locale.ROOT);
+	}
+
+	/** Starts a recording with the bundled settings that is written to {@code destination} when stopped. */
+	public static Recording startRecording(Path destination) throws IOException {
+		Recording recording = new Recording(settings());
+		recording.setName("parser");
+		recording.setToDisk(true);
+		recording.setDestination(destination);
+		recording.start();
+		return recording;
+	}
+
+	public static Configuration settings() throws IOException {
+		try (InputStream in = ParserEvents.class.getClassLoader().getResourceAsStream(SETTINGS)) {
+			if (in == null) {
+				throw new IOException("missing resource " + SETTINGS);
+			}
+			try (Reader reader = new InputStreamReader(in, StandardCharsets.UTF_8)) {
+				return Configuration.create(reader);
+			} catch (ParseException e) {
+				throw new IOException("invalid " + SETTINGS + " : " + e.getMessage(), e);
+			}
+		}
+	}
+
+}
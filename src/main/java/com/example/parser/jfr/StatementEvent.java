@@ -0,0 +1,61 @@
+package com.example.parser.jfr;
+
+import java.util.List;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.StackTrace;
+
+/**
+ * Fields shared by events that time work on one statement, or on one batch
+ * when {@code statements} is above one.
+ */
+@Category(ParserEvents.CATEGORY)
+@StackTrace(false)
+abstract class StatementEvent extends Event {
+
+	@Label("Engine")
+	String engine;
+
+	@Label("Statement Length")
+	int length;
+
+	@Label("Verb")
+	String verb;
+
+	@Label("Statements")
+	int statements;
+
+	@Label("Outcome")
+	String outcome;
+
+	public void finish(Object engine, String sql, String outcome) {
+		end();
+		if (shouldCommit()) {
+			this.engine = ParserEvents.engine(engine);
+			this.length = sql.length();
+			this.verb = ParserEvents.verb(sql);
+			this.statements = 1;
+			this.outcome = outcome;
+			commit();
+		}
+	}
+
+	// a batch has no single verb; length is the sum over its statements
+	public void finish(Object engine, List<String> batch, String outcome) {
+		end();
+		if (shouldCommit()) {
+			int total = 0;
+			for (String sql : batch) {
+				total += sql.length();
+			}
+			this.engine = ParserEvents.engine(engine);
+			this.length = total;
+			this.statements = batch.size();
+			this.outcome = outcome;
+			commit();
+		}
+	}
+
+}
@@ -0,0 +1,74 @@
+package com.example.parser.lineage;
+
+/**
+ * Open-addressing set of {@code from -> to} pairs packed into one long. Self
+ * edges are never stored, so the key {@code 0} ({@code 0 -> 0}) marks an
+ * empty slot and no boxing or entry objects are needed.
+ */
+class EdgeSet {
+
+	private static final int MAX_LOAD_PERCENT = 60;
+
+	private long[] keys = new long[1024];
+	private long size;
+
+	boolean add(int from, int to) {
+		if ((size + 1) * 100 > (long) keys.length * MAX_LOAD_PERCENT) {
+			grow();
+		}
+		long key = key(from, to);
+		int mask = keys.length - 1;
+		for (int i = mix(key) & mask;; i = (i + 1) & mask) {
+			if (keys[i] == 0) {
+				keys[i] = key;
+				size++;
+				return true;
+			}
+			if (keys[i] == key) {
+				return false;
+			}
+		}
+	}
+
+	boolean contains(int from, int to) {
+		long key = key(from, to);
+		int mask = keys.length - 1;
+		for (int i = mix(key) & mask;; i = (i + 1) & mask) {
+			if (keys[i] == 0) {
+				return false;
+			}
+			if (keys[i] == key) {
+				return true;
+			}
+		}
+	}
+
+	long size() {
+		return size;
+	}
+
+	private void grow() {
+		long[] old = keys;
+		keys = new long[old.length << 1];
+		int mask = keys.length - 1;
+		for (long key : old) {
+			if (key != 0) {
+				int i = mix(key) & mask;
+				while (keys[i] != 0) {
+					i = (i + 1) & mask;
+				}
+				keys[i] = key;
+			}
+		}
+	}
+
+	private static long key(int from, int to) {
+		return (long) from << 32 | (to & 0xffffffffL);
+	}
+
+	private static int mix(long key) {
+		long h = key * 0x9e3779b97f4a7c15L;
+		return (int) (h ^ h >>> 32);
+	}
+
+}
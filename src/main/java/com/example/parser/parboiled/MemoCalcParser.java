@@ -0,0 +1,32 @@
+package com.example.parser.parboiled;
+
+import org.parboiled.Rule;
+import org.parboiled.annotations.BuildParseTree;
+import org.parboiled.annotations.MemoMismatches;
+
+/**
+ * {@link CalcParser} with mismatch memoization on every rule, for comparing
+ * against the plain grammar in {@code GrammarProfiler --memo}.
+ */
+@BuildParseTree
+public class MemoCalcParser extends CalcParser {
+
+	@Override
+	@MemoMismatches
+	public Rule expr() {
+		return super.expr();
+	}
+
+	@Override
+	@MemoMismatches
+	Rule term() {
+		return super.term();
+	}
+
+	@Override
+	@MemoMismatches
+	Rule factor() {
+		return super.factor();
+	}
+
+}
@@ -0,0 +1,50 @@
+package com.example.parser.parboiled;
+
+import org.parboiled.Rule;
+import org.parboiled.annotations.BuildParseTree;
+import org.parboiled.annotations.MemoMismatches;
+import org.parboiled.annotations.SkipNode;
+
+/**
+ * {@link SQLParser} with mismatch memoization on the statement rules, for
+ * comparing rematch/remismatch counts against the plain grammar in
+ * {@code GrammarProfiler --memo}.
+ */
+@BuildParseTree
+public class MemoSQLParser extends SQLParser {
+
+	@Override
+	@MemoMismatches
+	public Rule sql_stmt() {
+		return super.sql_stmt();
+	}
+
+	@Override
+	@SkipNode
+	@MemoMismatches
+	Rule select_stmt() {
+		return super.select_stmt();
+	}
+
+	@Override
+	@SkipNode
+	@MemoMismatches
+	Rule select_expr() {
+		return super.select_expr();
+	}
+
+	@Override
+	@SkipNode
+	@MemoMismatches
+	Rule insert_stmt() {
+		return super.insert_stmt();
+	}
+
+	@Override
+	@SkipNode
+	@MemoMismatches
+	Rule create_stmt() {
+		return super.create_stmt();
+	}
+
+}
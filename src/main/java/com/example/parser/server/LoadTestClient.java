@@ -0,0 +1,130 @@
+package com.example.parser.server;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.example.parser.bench.Corpus;
+
+/**
+ * Drives {@link ParseServer} on localhost with concurrent keep-alive clients
+ * and prints throughput and latency percentiles.
+ *
+ * <pre>
+ * LoadTestClient [--url http://localhost:8080/parse] [--threads 16] [--requests 1000] [--corpus file.sql]
+ * </pre>
+ */
+public class LoadTestClient {
+
+	public static void main(String[] args) throws Exception {
+		String url = "http://localhost:8080/parse";
+		int threads = 16;
+		int requests = 1000;
+		String corpusFile = null;
+
+		for (int i = 0; i < args.length; i++) {
+			switch (args[i]) {
+			case "--url":
+				url = args[++i];
+				break;
+			case "--threads":
+				threads = Integer.parseInt(args[++i]);
+				break;
+			case "--requests":
+				requests = Integer.parseInt(args[++i]);
+				break;
+			case "--corpus":
+				corpusFile = args[++i];
+				break;
+			default:
+				throw new IllegalArgumentException("unknown option " + args[i]);
+			}
+		}
+
+		int perThread = requests;
+		List<String> corpus = Corpus.load(corpusFile);
+		URL target = new URL(url);
+		long[] nanos = new long[threads * requests];
+		int[] completed = new int[threads];
+		AtomicInteger errors = new AtomicInteger();
+		CountDownLatch done = new CountDownLatch(threads);
+
+		long start = System.nanoTime();
+		for (int t = 0; t < threads; t++) {
+			int thread = t;
+			int offset = t * perThread;
+			new Thread(() -> {
+				int i = 0;
+				try {
+					for (; i < perThread; i++) {
+						byte[] body = corpus.get((offset + i) % corpus.size()).getBytes(StandardCharsets.UTF_8);
+						long begin = System.nanoTime();
+						if (post(target, body) != 200) {
+							errors.incrementAndGet();
+						}
+						nanos[offset + i] = System.nanoTime() - begin;
+					}
+				} catch (IOException e) {
+					// the failed request and every one this thread did not get to
+					errors.addAndGet(perThread - i);
+					System.err.println("client failed : " + e);
+				} finally {
+					completed[thread] = i;
+					done.countDown();
+				}
+			}, "load-" + t).start();
+		}
+		done.await();
+		long elapsed = System.nanoTime() - start;
+
+		// only requests that got a response are timed
+		int samples = 0;
+		for (int t = 0; t < threads; t++) {
+			System.arraycopy(nanos, t * perThread, nanos, samples, completed[t]);
+			samples += completed[t];
+		}
+		System.out.println("requests   : " + nanos.length + " (" + errors.get() + " errors)");
+		if (samples == 0) {
+			return;
+		}
+		long[] sorted = Arrays.copyOf(nanos, samples);
+		Arrays.sort(sorted);
+		System.out.printf("throughput : %.1f req/s%n", samples / (elapsed / 1e9));
+		System.out.printf("latency us : p50=%.1f p90=%.1f p99=%.1f max=%.1f%n", percentile(sorted, 0.50) / 1e3,
+				percentile(sorted, 0.90) / 1e3, percentile(sorted, 0.99) / 1e3, sorted[sorted.length - 1] / 1e3);
+	}
+
+	// the body is always drained so HttpURLConnection can hand the socket back to its keep-alive cache
+	private static int post(URL target, byte[] body) throws IOException {
+		HttpURLConnection connection = (HttpURLConnection) target.openConnection();
+		connection.setRequestMethod("POST");
+		connection.setDoOutput(true);
+		connection.setFixedLengthStreamingMode(body.length);
+		connection.setRequestProperty("Content-Type", "text/plain; charset=utf-8");
+		try (OutputStream out = connection.getOutputStream()) {
+			out.write(body);
+		}
+		int status = connection.getResponseCode();
+		try (InputStream in = status < 400 ? connection.getInputStream() : connection.getErrorStream()) {
+			if (in != null) {
+				byte[] buffer = new byte[8192];
+				while (in.read(buffer) > 0) {
+				}
+			}
+		}
+		return status;
+	}
+
+	private static long percentile(long[] sorted, double p) {
+		int index = (int) Math.ceil(p * sorted.length) - 1;
+		return sorted[Math.max(0, Math.min(sorted.length - 1, index))];
+	}
+
+}
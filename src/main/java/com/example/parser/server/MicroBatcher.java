@@ -0,0 +1,110 @@
+package com.example.parser.server;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import com.example.parser.engine.AsyncParser;
+import com.example.parser.engine.ParseResult;
+
+/**
+ * Collects statements submitted concurrently and hands them to the engine
+ * pool as one batch once {@code maxBatch} are queued or {@code maxDelayMicros}
+ * has passed since the first one arrived.
+ */
+public class MicroBatcher implements AutoCloseable {
+
+	private final AsyncParser parser;
+	private final int maxBatch;
+	private final long maxDelayNanos;
+	private final BlockingQueue<Request> queue = new LinkedBlockingQueue<>();
+	private final Thread thread;
+	private volatile boolean running = true;
+
+	public MicroBatcher(AsyncParser parser, int maxBatch, long maxDelayMicros) {
+		this.parser = parser;
+		this.maxBatch = maxBatch;
+		this.maxDelayNanos = TimeUnit.MICROSECONDS.toNanos(maxDelayMicros);
+		this.thread = new Thread(this::run, "parse-batcher");
+		this.thread.setDaemon(true);
+		this.thread.start();
+	}
+
+	public CompletionStage<ParseResult> submit(String sql) {
+		Request request = new Request(sql);
+		// atomic with close(), so a request is either drained there or never queued
+		synchronized (queue) {
+			if (!running) {
+				request.future.completeExceptionally(new IllegalStateException("batcher closed"));
+			} else {
+				queue.add(request);
+			}
+		}
+		return request.future;
+	}
+
+	private void run() {
+		List<Request> batch = new ArrayList<>(maxBatch);
+		while (running) {
+			try {
+				batch.add(queue.take());
+				long deadline = System.nanoTime() + maxDelayNanos;
+				while (batch.size() < maxBatch) {
+					Request next = queue.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+					if (next == null) {
+						break;
+					}
+					batch.add(next);
+				}
+			} catch (InterruptedException e) {
+				running = false;
+			}
+			if (!batch.isEmpty()) {
+				dispatch(new ArrayList<>(batch));
+				batch.clear();
+			}
+		}
+	}
+
+	private void dispatch(List<Request> batch) {
+		List<String> statements = new ArrayList<>(batch.size());
+		for (Request request : batch) {
+			statements.add(request.sql);
+		}
+		parser.parseBatchAsync(statements).whenComplete((results, e) -> {
+			for (int i = 0; i < batch.size(); i++) {
+				if (e != null) {
+					batch.get(i).future.completeExceptionally(e);
+				} else {
+					batch.get(i).future.complete(results.get(i));
+				}
+			}
+		});
+	}
+
+	@Override
+	public void close() {
+		synchronized (queue) {
+			running = false;
+		}
+		thread.interrupt();
+		for (Request request; (request = queue.poll()) != null;) {
+			request.future.completeExceptionally(new IllegalStateException("batcher closed"));
+		}
+	}
+
+	private static class Request {
+
+		final String sql;
+		final CompletableFuture<ParseResult> future = new CompletableFuture<>();
+
+		Request(String sql) {
+			this.sql = sql;
+		}
+	}
+
+}
@@ -0,0 +1,287 @@
+package com.example.parser.server;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+
+import com.example.parser.bench.Corpus;
+import com.example.parser.engine.AsyncParser;
+import com.example.parser.engine.GraalParser;
+import com.example.parser.engine.GrammarMode;
+import com.example.parser.engine.ParseResult;
+import com.example.parser.engine.ParserEngine;
+import com.example.parser.engine.ParserEngines;
+import com.example.parser.engine.RecyclePolicy;
+import com.example.parser.jfr.ParserEvents;
+import com.example.parser.util.Json;
+import com.example.parser.worker.WorkerPool;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import jdk.jfr.Recording;
+
+/**
+ * Embedded HTTP front end for the parser engines.
+ *
+ * <pre>
+ * POST /parse        body: one statement          -> result object
+ * POST /parse/batch  body: ';'-terminated statements -> streamed array of results
+ * </pre>
+ *
+ * Single-statement requests arriving concurrently are micro-batched into one
+ * engine call; batch requests are cut into engine-sized chunks that are all
+ * submitted up front and written out in order as they complete.
+ */
+public class ParseServer implements AutoCloseable {
+
+	private final HttpServer server;
+	private final ExecutorService executor;
+	private final AsyncParser parser;
+	private final MicroBatcher batcher;
+	private final int maxBatch;
+
+	static {
+		// small JSON responses otherwise sit behind Nagle + delayed ACK on keep-alive connections
+		if (System.getProperty("sun.net.httpserver.nodelay") == null) {
+			System.setProperty("sun.net.httpserver.nodelay", "true");
+		}
+	}
+
+	public ParseServer(int port, AsyncParser parser, int maxBatch, long maxDelayMicros) throws IOException {
+		this.parser = parser;
+		this.maxBatch = maxBatch;
+		this.batcher = new MicroBatcher(parser, maxBatch, maxDelayMicros);
+		this.executor = AsyncParser.virtualThreadExecutor("parse-http");
+		this.server = HttpServer.create(new InetSocketAddress(port), 0);
+		this.server.setExecutor(executor);
+		this.server.createContext("/parse", this::handleParse);
+		this.server.createContext("/parse/batch", this::handleBatch);
+	}
+
+	public static void main(String[] args) throws Exception {
+		int port = 8080;
+		String engine = ParserEngines.GRAAL;
+		GrammarMode mode = GrammarMode.FULL;
+		int poolSize = Runtime.getRuntime().availableProcessors();
+		int maxBatch = 32;
+		long maxDelayMicros = 200;
+		long recycleAfter = 0;
+		long maxHandles = 0;
+		long maxHeapBytes = 0;
+		int workers = 0;
+		long parseTimeoutMillis = 0;
+		String jfr = null;
+
+		for (int i = 0; i < args.length; i++) {
+			switch (args[i]) {
+			case "--port":
+				port = Integer.parseInt(args[++i]);
+				break;
+			case "--engine":
+				engine = args[++i];
+				break;
+			case "--mode":
+				mode = GrammarMode.valueOf(args[++i].toUpperCase());
+				break;
+			case "--pool":
+				poolSize = Integer.parseInt(args[++i]);
+				break;
+			case "--batch":
+				maxBatch = Integer.parseInt(args[++i]);
+				break;
+			case "--delay":
+				maxDelayMicros = Long.parseLong(args[++i]);
+				break;
+			case "--recycle":
+				recycleAfter = Long.parseLong(args[++i]);
+				break;
+			case "--max-handles":
+				maxHandles = Long.parseLong(args[++i]);
+				break;
+			case "--max-heap":
+				maxHeapBytes = Long.parseLong(args[++i]);
+				break;
+			case "--workers":
+				workers = Integer.parseInt(args[++i]);
+				break;
+			case "--parse-timeout":
+				parseTimeoutMillis = Long.parseLong(args[++i]);
+				break;
+			case "--jfr":
+				jfr = args[++i];
+				break;
+			default:
+				throw new IllegalArgumentException("unknown option " + args[i]);
+			}
+		}
+
+		if (workers > 0 && (recycleAfter > 0 || maxHandles > 0 || maxHeapBytes > 0)) {
+			throw new IllegalArgumentException("--recycle, --max-handles and --max-heap apply to in-process engines,"
+					+ " not to --workers");
+		}
+		if (maxHeapBytes > 0 && !ParserEngines.GRAAL.equals(engine)) {
+			throw new IllegalArgumentException("--max-heap applies to --engine graal only");
+		}
+
+		String engineName = engine;
+		GrammarMode grammarMode = mode;
+		long heapLimit = maxHeapBytes;
+		RecyclePolicy policy = recycleAfter > 0 || maxHandles > 0 || heapLimit > 0
+				? new RecyclePolicy(recycleAfter, maxHandles, Corpus.defaults())
+				: RecyclePolicy.NEVER;
+		Callable<ParserEngine> factory = ParserEngines.GRAAL.equals(engineName) && heapLimit > 0
+				? () -> new GraalParser(ParserEngines.ES6_GRAMMAR, grammarMode, heapLimit)
+				: () -> ParserEngines.create(engineName, grammarMode);
+		// out-of-process engines: the pool only forwards, so it is never pinned or recycled in this JVM
+		WorkerPool workerPool = workers > 0
+				? new WorkerPool(engineName, grammarMode, workers, parseTimeoutMillis, Collections.emptyList())
+				: null;
+		AsyncParser parser = workerPool != null
+				? AsyncParser.pooled(workerPool::engine, poolSize, true)
+				: ParserEngines.V8.equals(engineName)
+						? AsyncParser.pinned(factory, poolSize, true, policy)
+						: AsyncParser.pooled(factory, poolSize, true, policy);
+
+		// parser events plus GC, safepoint and contention events, dumped on shutdown
+		Recording recording = jfr != null ? ParserEvents.startRecording(Paths.get(jfr)) : null;
+		ParseServer server = new ParseServer(port, parser, maxBatch, maxDelayMicros);
+		Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+			server.close();
+			if (workerPool != null) {
+				workerPool.close();
+			}
+			if (recording != null) {
+				recording.stop();
+				recording.close();
+			}
+		}));
+		server.start();
+		String engines = workers > 0 ? workers + " processes" : Integer.toString(poolSize);
+		System.out.println("parse server : http://localhost:" + port + "/parse (" + engineName + " x " + engines + ", " + grammarMode.name().toLowerCase() + ")");
+	}
+
+	public void start() {
+		server.start();
+	}
+
+	private void handleParse(HttpExchange exchange) throws IOException {
+		try {
+			if (!"POST".equals(exchange.getRequestMethod())) {
+				send(exchange, 405, "{\"error\":\"POST required\"}");
+				return;
+			}
+			String sql = readBody(exchange).trim();
+			ParseResult result = await(batcher.submit(sql));
+			send(exchange, result.isSuccess() ? 200 : 400, Json.write(result.toMap()));
+		} catch (Exception e) {
+			// a failure while writing the response cannot be answered with another status
+			if (exchange.getResponseCode() == -1) {
+				send(exchange, 500, Json.write(ParseResult.failure(e).toMap()));
+			}
+		} finally {
+			exchange.close();
+		}
+	}
+
+	private void handleBatch(HttpExchange exchange) throws IOException {
+		try {
+			if (!"POST".equals(exchange.getRequestMethod())) {
+				send(exchange, 405, "{\"error\":\"POST required\"}");
+				return;
+			}
+			List<String> statements = Corpus.split(readBody(exchange));
+
+			List<CompletionStage<List<ParseResult>>> chunks = new ArrayList<>();
+			for (int i = 0; i < statements.size(); i += maxBatch) {
+				chunks.add(parser.parseBatchAsync(statements.subList(i, Math.min(statements.size(), i + maxBatch))));
+			}
+
+			exchange.getResponseHeaders().set("Content-Type", "application/json");
+			exchange.sendResponseHeaders(200, 0);
+			try (Writer out = new OutputStreamWriter(exchange.getResponseBody(), StandardCharsets.UTF_8)) {
+				out.write('[');
+				int id = 0;
+				for (CompletionStage<List<ParseResult>> chunk : chunks) {
+					List<ParseResult> results;
+					try {
+						results = await(chunk);
+					} catch (Exception e) {
+						results = new ArrayList<>();
+						for (int i = id; i < Math.min(statements.size(), id + maxBatch); i++) {
+							results.add(ParseResult.failure(e));
+						}
+					}
+					for (ParseResult result : results) {
+						if (id > 0) {
+							out.write(',');
+						}
+						Map<String, Object> item = new LinkedHashMap<>();
+						item.put("id", id++);
+						item.putAll(result.toMap());
+						Json.write(item, out);
+					}
+					out.flush();
+				}
+				out.write(']');
+			}
+		} finally {
+			exchange.close();
+		}
+	}
+
+	private static <T> T await(CompletionStage<T> stage) throws Exception {
+		try {
+			return stage.toCompletableFuture().get();
+		} catch (ExecutionException e) {
+			throw e.getCause() instanceof Exception ? (Exception) e.getCause() : e;
+		}
+	}
+
+	private static String readBody(HttpExchange exchange) throws IOException {
+		try (InputStream in = exchange.getRequestBody()) {
+			ByteArrayOutputStream body = new ByteArrayOutputStream();
+			byte[] buffer = new byte[8192];
+			for (int n; (n = in.read(buffer)) > 0;) {
+				body.write(buffer, 0, n);
+			}
+			return new String(body.toByteArray(), StandardCharsets.UTF_8);
+		}
+	}
+
+	private static void send(HttpExchange exchange, int status, String json) throws IOException {
+		byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+		exchange.getResponseHeaders().set("Content-Type", "application/json");
+		exchange.sendResponseHeaders(status, bytes.length);
+		try (OutputStream out = exchange.getResponseBody()) {
+			out.write(bytes);
+		}
+	}
+
+	@Override
+	public void close() {
+		server.stop(1);
+		batcher.close();
+		executor.shutdown();
+		try {
+			parser.close();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+}
@@ -0,0 +1,107 @@
+package com.example.parser.util;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Collection;
+import java.util.Map;
+
+public final class Json {
+
+	private Json() {
+	}
+
+	public static String write(Object value) {
+		StringBuilder out = new StringBuilder();
+		write(value, out);
+		return out.toString();
+	}
+
+	public static void write(Object value, Appendable out) {
+		try {
+			writeValue(value, out);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	private static void writeValue(Object value, Appendable out) throws IOException {
+		if (value == null) {
+			out.append("null");
+		} else if (value instanceof CharSequence) {
+			writeString((CharSequence) value, out);
+		} else if (value instanceof Double || value instanceof Float) {
+			double d = ((Number) value).doubleValue();
+			out.append(Double.isNaN(d) || Double.isInfinite(d) ? "null" : String.valueOf(value));
+		} else if (value instanceof Number || value instanceof Boolean) {
+			out.append(String.valueOf(value));
+		} else if (value instanceof Map) {
+			out.append('{');
+			boolean first = true;
+			for (Map.Entry<?, ?> e : ((Map<?, ?>) value).entrySet()) {
+				if (!first) {
+					out.append(',');
+				}
+				first = false;
+				writeString(String.valueOf(e.getKey()), out);
+				out.append(':');
+				writeValue(e.getValue(), out);
+			}
+			out.append('}');
+		} else if (value instanceof Collection) {
+			out.append('[');
+			boolean first = true;
+			for (Object item : (Collection<?>) value) {
+				if (!first) {
+					out.append(',');
+				}
+				first = false;
+				writeValue(item, out);
+			}
+			out.append(']');
+		} else if (value instanceof Object[]) {
+			out.append('[');
+			Object[] array = (Object[]) value;
+			for (int i = 0; i < array.length; i++) {
+				if (i > 0) {
+					out.append(',');
+				}
+				writeValue(array[i], out);
+			}
+			out.append(']');
+		} else {
+			writeString(String.valueOf(value), out);
+		}
+	}
+
+	private static void writeString(CharSequence s, Appendable out) throws IOException {
+		out.append('"');
+		for (int i = 0; i < s.length(); i++) {
+			char c = s.charAt(i);
+			switch (c) {
+			case '"':
+				out.append("\\\"");
+				break;
+			case '\\':
+				out.append("\\\\");
+				break;
+			case '\n':
+				out.append("\\n");
+				break;
+			case '\r':
+				out.append("\\r");
+				break;
+			case '\t':
+				out.append("\\t");
+				break;
+			default:
+				if (c < 0x20) {
+					out.append(String.format("\\u%04x", (int) c));
+				} else {
+					out.append(c);
+				}
+			}
+		}
+		out.append('"');
+	}
+
+}
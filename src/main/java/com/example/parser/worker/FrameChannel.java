@@ -0,0 +1,221 @@
+package com.example.parser.worker;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Blocking framed connection between the coordinator and one worker. A frame
+ * is {@code [int length][byte type][payload]}, length counting type and
+ * payload:
+ *
+ * <pre>
+ * HELLO   worker -> coordinator   [int worker]
+ * PARSE   coordinator -> worker   [long request][utf-8 sql]
+ * RESULT  worker -> coordinator   [long request][value]
+ * </pre>
+ *
+ * A value is a tagged tree of the types a parse result is made of: null,
+ * booleans, int, long, double, string, list and string-keyed map. Both buffers
+ * are direct and reused, growing only for oversized frames. Sends are
+ * serialized; reads must come from a single thread.
+ */
+final class FrameChannel implements AutoCloseable {
+
+	static final byte HELLO = 1;
+	static final byte PARSE = 2;
+	static final byte RESULT = 3;
+
+	private static final byte NULL = 0;
+	private static final byte TRUE = 1;
+	private static final byte FALSE = 2;
+	private static final byte INT = 3;
+	private static final byte LONG = 4;
+	private static final byte DOUBLE = 5;
+	private static final byte STRING = 6;
+	private static final byte LIST = 7;
+	private static final byte MAP = 8;
+
+	private static final int INITIAL_BUFFER = 64 * 1024;
+
+	private final SocketChannel channel;
+	private ByteBuffer in = ByteBuffer.allocateDirect(INITIAL_BUFFER);
+	private ByteBuffer out = ByteBuffer.allocateDirect(INITIAL_BUFFER);
+
+	FrameChannel(SocketChannel channel) {
+		this.channel = channel;
+	}
+
+	synchronized void sendHello(int worker) throws IOException {
+		begin(HELLO);
+		out.putInt(worker);
+		flush();
+	}
+
+	synchronized void sendParse(long request, String sql) throws IOException {
+		begin(PARSE);
+		out.putLong(request);
+		putString(sql, false);
+		flush();
+	}
+
+	synchronized void sendResult(long request, Object value) throws IOException {
+		begin(RESULT);
+		out.putLong(request);
+		putValue(value);
+		flush();
+	}
+
+	/** Reads the next frame and returns its type; the payload stays readable until the next call. */
+	byte read() throws IOException {
+		in.clear().limit(4);
+		fill();
+		int length = in.getInt(0);
+		if (length < 1) {
+			throw new IOException("bad frame length " + length);
+		}
+		if (length > in.capacity()) {
+			in = ByteBuffer.allocateDirect(Integer.highestOneBit(length) << 1);
+		}
+		in.clear().limit(length);
+		fill();
+		in.flip();
+		return in.get();
+	}
+
+	int readInt() {
+		return in.getInt();
+	}
+
+	long readLong() {
+		return in.getLong();
+	}
+
+	/** The rest of the payload as one UTF-8 string. */
+	String readText() {
+		byte[] bytes = new byte[in.remaining()];
+		in.get(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+	Object readValue() {
+		byte tag = in.get();
+		switch (tag) {
+		case NULL:
+			return null;
+		case TRUE:
+			return Boolean.TRUE;
+		case FALSE:
+			return Boolean.FALSE;
+		case INT:
+			return in.getInt();
+		case LONG:
+			return in.getLong();
+		case DOUBLE:
+			return in.getDouble();
+		case STRING:
+			byte[] bytes = new byte[in.getInt()];
+			in.get(bytes);
+			return new String(bytes, StandardCharsets.UTF_8);
+		case LIST:
+			int size = in.getInt();
+			List<Object> list = new ArrayList<>(size);
+			for (int i = 0; i < size; i++) {
+				list.add(readValue());
+			}
+			return list;
+		case MAP:
+			int entries = in.getInt();
+			Map<String, Object> map = new LinkedHashMap<>();
+			for (int i = 0; i < entries; i++) {
+				String key = (String) readValue();
+				map.put(key, readValue());
+			}
+			return map;
+		default:
+			throw new IllegalStateException("bad value tag " + tag);
+		}
+	}
+
+	@Override
+	public void close() throws IOException {
+		channel.close();
+	}
+
+	private void fill() throws IOException {
+		while (in.hasRemaining()) {
+			if (channel.read(in) < 0) {
+				throw new EOFException("connection closed");
+			}
+		}
+	}
+
+	private void begin(byte type) {
+		out.clear();
+		out.putInt(0);
+		out.put(type);
+	}
+
+	private void flush() throws IOException {
+		out.putInt(0, out.position() - 4);
+		out.flip();
+		while (out.hasRemaining()) {
+			channel.write(out);
+		}
+	}
+
+	private void putValue(Object value) {
+		ensure(9);
+		if (value == null) {
+			out.put(NULL);
+		} else if (value instanceof Boolean) {
+			out.put((Boolean) value ? TRUE : FALSE);
+		} else if (value instanceof Integer || value instanceof Short || value instanceof Byte) {
+			out.put(INT).putInt(((Number) value).intValue());
+		} else if (value instanceof Long) {
+			out.put(LONG).putLong((Long) value);
+		} else if (value instanceof Number) {
+			out.put(DOUBLE).putDouble(((Number) value).doubleValue());
+		} else if (value instanceof List) {
+			List<?> list = (List<?>) value;
+			out.put(LIST).putInt(list.size());
+			for (Object item : list) {
+				putValue(item);
+			}
+		} else if (value instanceof Map) {
+			Map<?, ?> map = (Map<?, ?>) value;
+			out.put(MAP).putInt(map.size());
+			for (Map.Entry<?, ?> e : map.entrySet()) {
+				putValue(String.valueOf(e.getKey()));
+				putValue(e.getValue());
+			}
+		} else {
+			putString(value.toString(), true);
+		}
+	}
+
+	private void putString(String text, boolean tagged) {
+		byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+		ensure(bytes.length + 5);
+		if (tagged) {
+			out.put(STRING).putInt(bytes.length);
+		}
+		out.put(bytes);
+	}
+
+	private void ensure(int bytes) {
+		if (out.remaining() < bytes) {
+			ByteBuffer grown = ByteBuffer.allocateDirect(Integer.highestOneBit(out.position() + bytes) << 1);
+			out.flip();
+			grown.put(out);
+			out = grown;
+		}
+	}
+
+}
@@ -0,0 +1,86 @@
+package com.example.parser.worker;
+
+import java.io.EOFException;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.SocketChannel;
+import java.nio.file.Paths;
+
+import com.example.parser.engine.GrammarMode;
+import com.example.parser.engine.ParseResult;
+import com.example.parser.engine.ParserEngine;
+import com.example.parser.engine.ParserEngines;
+
+/**
+ * Worker process started by {@link WorkerPool}: connects back to the
+ * coordinator's socket, announces its slot and then parses requests one at a
+ * time on a single engine, on the main thread, until the connection closes.
+ * A fault in the engine's native code ends only this process.
+ *
+ * <pre>
+ * ParserWorker --socket path --worker n [--engine graal|v8|nashorn] [--mode full|metadata]
+ * </pre>
+ */
+public class ParserWorker {
+
+	public static void main(String[] args) throws Exception {
+		String socket = null;
+		int worker = 0;
+		String engine = ParserEngines.V8;
+		GrammarMode mode = GrammarMode.FULL;
+
+		for (int i = 0; i < args.length; i++) {
+			switch (args[i]) {
+			case "--socket":
+				socket = args[++i];
+				break;
+			case "--worker":
+				worker = Integer.parseInt(args[++i]);
+				break;
+			case "--engine":
+				engine = args[++i];
+				break;
+			case "--mode":
+				mode = GrammarMode.valueOf(args[++i].toUpperCase());
+				break;
+			default:
+				throw new IllegalArgumentException("unknown option " + args[i]);
+			}
+		}
+		if (socket == null) {
+			throw new IllegalArgumentException("--socket is required");
+		}
+
+		SocketChannel connection = SocketChannel.open(StandardProtocolFamily.UNIX);
+		try (ParserEngine parser = ParserEngines.create(engine, mode);
+				FrameChannel channel = new FrameChannel(connection)) {
+			connection.connect(UnixDomainSocketAddress.of(Paths.get(socket)));
+			channel.sendHello(worker);
+			serve(parser, channel);
+		}
+	}
+
+	private static void serve(ParserEngine parser, FrameChannel channel) throws Exception {
+		while (true) {
+			byte type;
+			try {
+				type = channel.read();
+			} catch (EOFException e) {
+				return;
+			}
+			if (type != FrameChannel.PARSE) {
+				throw new IllegalStateException("unexpected frame type " + type);
+			}
+			long request = channel.readLong();
+			String sql = channel.readText();
+			ParseResult result;
+			try {
+				result = parser.parseResult(sql);
+			} catch (Exception e) {
+				result = ParseResult.failure(e);
+			}
+			channel.sendResult(request, result.toMap());
+		}
+	}
+
+}
@@ -0,0 +1,398 @@
+package com.example.parser.worker;
+
+import java.io.IOException;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.example.parser.engine.GrammarMode;
+import com.example.parser.engine.ParseResult;
+import com.example.parser.engine.ParserEngine;
+
+/**
+ * Coordinator for parser worker processes on the same host. Each of the
+ * {@code size} slots runs one {@link ParserWorker} JVM with its own engine,
+ * connected back over a Unix domain socket with {@link FrameChannel} framing,
+ * so a native crash or a runaway parse costs one process instead of the
+ * caller's JVM.
+ * <p>
+ * Requests are pipelined to the live worker with the fewest in flight. When a
+ * worker exits, its in-flight requests fail with an error result and the slot
+ * is restarted after a backoff that grows with consecutive crashes. A parse
+ * running longer than {@code parseTimeoutMillis} gets its worker killed. A
+ * worker parses its requests in order, so only the one at the head of its
+ * queue is timed, from when it reached an idle worker or when the result
+ * before it came back; requests queued behind a slow parse are not charged
+ * for it.
+ * {@link #engine()} adapts the pool to {@link ParserEngine}, so it plugs into
+ * {@code AsyncParser} and the HTTP server unchanged.
+ */
+public class WorkerPool implements AutoCloseable {
+
+	private static final long MAX_BACKOFF_MILLIS = 5000;
+	private static final long START_TIMEOUT_MILLIS = 30_000;
+
+	private final String engine;
+	private final GrammarMode mode;
+	private final long parseTimeoutMillis;
+	private final List<String> jvmArgs;
+	private final Path socketDir;
+	private final Path socket;
+	private final ServerSocketChannel server;
+	private final Slot[] slots;
+	private final ScheduledExecutorService scheduler;
+	private final AtomicLong requests = new AtomicLong();
+	private final AtomicLong restarts = new AtomicLong();
+	private final AtomicInteger next = new AtomicInteger();
+	private final Object liveness = new Object();
+	private volatile boolean closed;
+
+	public WorkerPool(String engine, GrammarMode mode, int size, long parseTimeoutMillis, List<String> jvmArgs)
+			throws IOException {
+		this.engine = engine;
+		this.mode = mode;
+		this.parseTimeoutMillis = parseTimeoutMillis;
+		this.jvmArgs = jvmArgs;
+		this.socketDir = Files.createTempDirectory("parser-workers");
+		this.socket = socketDir.resolve("coordinator.sock");
+		this.server = ServerSocketChannel.open(StandardProtocolFamily.UNIX);
+		this.server.bind(UnixDomainSocketAddress.of(socket));
+		this.slots = new Slot[size];
+		this.scheduler = Executors.newSingleThreadScheduledExecutor(r -> daemon(r, "worker-pool"));
+
+		Thread acceptor = daemon(this::accept, "worker-accept");
+		acceptor.start();
+		for (int i = 0; i < size; i++) {
+			slots[i] = new Slot(i);
+			spawn(slots[i]);
+		}
+		if (parseTimeoutMillis > 0) {
+			long period = Math.max(10, parseTimeoutMillis / 4);
+			scheduler.scheduleAtFixedRate(this::killRunaways, period, period, TimeUnit.MILLISECONDS);
+		}
+	}
+
+	public CompletableFuture<ParseResult> parseAsync(String sql) {
+		CompletableFuture<ParseResult> future = new CompletableFuture<>();
+		Slot slot;
+		try {
+			slot = pick();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			future.complete(ParseResult.failure(e));
+			return future;
+		}
+		if (slot == null) {
+			future.complete(ParseResult.failure("no parser worker available"));
+			return future;
+		}
+		slot.send(requests.incrementAndGet(), sql, future);
+		return future;
+	}
+
+	public ParseResult parse(String sql) throws InterruptedException {
+		return await(parseAsync(sql));
+	}
+
+	/** Sends every statement before waiting for the first result. */
+	public List<ParseResult> parseBatch(List<String> statements) throws InterruptedException {
+		List<CompletableFuture<ParseResult>> futures = new ArrayList<>(statements.size());
+		for (String sql : statements) {
+			futures.add(parseAsync(sql));
+		}
+		List<ParseResult> results = new ArrayList<>(futures.size());
+		for (CompletableFuture<ParseResult> future : futures) {
+			results.add(await(future));
+		}
+		return results;
+	}
+
+	/** A {@link ParserEngine} view of the pool; closing it leaves the pool running. */
+	public ParserEngine engine() {
+		return new RemoteEngine();
+	}
+
+	public long getRestartCount() {
+		return restarts.get();
+	}
+
+	public int getLiveWorkers() {
+		int live = 0;
+		for (Slot slot : slots) {
+			live += slot.channel != null ? 1 : 0;
+		}
+		return live;
+	}
+
+	@Override
+	public void close() {
+		closed = true;
+		scheduler.shutdownNow();
+		for (Slot slot : slots) {
+			Process process = slot.process;
+			if (process != null) {
+				process.destroy();
+			}
+		}
+		try {
+			server.close();
+			Files.deleteIfExists(socket);
+			Files.deleteIfExists(socketDir);
+		} catch (IOException e) {
+			System.err.println("worker pool cleanup failed : " + e);
+		}
+	}
+
+	private void spawn(Slot slot) {
+		if (closed) {
+			return;
+		}
+		List<String> command = new ArrayList<>();
+		command.add(Paths.get(System.getProperty("java.home"), "bin", "java").toString());
+		command.addAll(jvmArgs);
+		command.add("-cp");
+		command.add(System.getProperty("java.class.path"));
+		command.add(ParserWorker.class.getName());
+		command.add("--socket");
+		command.add(socket.toString());
+		command.add("--worker");
+		command.add(Integer.toString(slot.index));
+		command.add("--engine");
+		command.add(engine);
+		command.add("--mode");
+		command.add(mode.name().toLowerCase());
+		try {
+			Process process = new ProcessBuilder(command).inheritIO().start();
+			slot.process = process;
+			process.onExit().thenRun(() -> exited(slot, process));
+		} catch (IOException e) {
+			System.err.println("worker " + slot.index + " failed to start : " + e);
+			respawnLater(slot);
+		}
+	}
+
+	private void exited(Slot slot, Process process) {
+		if (slot.process != process) {
+			return;
+		}
+		slot.detach("parser worker " + slot.index + " exited with code " + process.exitValue());
+		if (!closed) {
+			System.err.println("worker " + slot.index + " exited with code " + process.exitValue() + ", restarting");
+			restarts.incrementAndGet();
+			respawnLater(slot);
+		}
+	}
+
+	private void respawnLater(Slot slot) {
+		if (closed) {
+			return;
+		}
+		long delay = Math.min(MAX_BACKOFF_MILLIS, 50L << Math.min(slot.crashes++, 7));
+		scheduler.schedule(() -> spawn(slot), delay, TimeUnit.MILLISECONDS);
+	}
+
+	private void accept() {
+		while (!closed) {
+			try {
+				SocketChannel connection = server.accept();
+				FrameChannel channel = new FrameChannel(connection);
+				if (channel.read() != FrameChannel.HELLO) {
+					channel.close();
+					continue;
+				}
+				int index = channel.readInt();
+				if (index < 0 || index >= slots.length) {
+					channel.close();
+					continue;
+				}
+				slots[index].attach(channel);
+			} catch (IOException e) {
+				if (!closed) {
+					System.err.println("worker accept failed : " + e);
+				}
+			}
+		}
+	}
+
+	// least in-flight live worker, scanning from a rotating start so ties spread out
+	private Slot pick() throws InterruptedException {
+		long deadline = System.currentTimeMillis() + START_TIMEOUT_MILLIS;
+		while (!closed) {
+			Slot best = null;
+			int start = Math.floorMod(next.getAndIncrement(), slots.length);
+			for (int i = 0; i < slots.length; i++) {
+				Slot slot = slots[(start + i) % slots.length];
+				if (slot.channel != null && (best == null || slot.inFlight.get() < best.inFlight.get())) {
+					best = slot;
+				}
+			}
+			if (best != null) {
+				return best;
+			}
+			long wait = deadline - System.currentTimeMillis();
+			if (wait <= 0) {
+				return null;
+			}
+			synchronized (liveness) {
+				liveness.wait(Math.min(wait, 100));
+			}
+		}
+		return null;
+	}
+
+	private void killRunaways() {
+		long limit = System.nanoTime() - TimeUnit.MILLISECONDS.toNanos(parseTimeoutMillis);
+		for (Slot slot : slots) {
+			Process process = slot.process;
+			if (process != null && slot.inFlight.get() > 0 && slot.headStarted < limit) {
+				System.err.println("worker " + slot.index + " exceeded " + parseTimeoutMillis + "ms on one parse, killing");
+				process.destroyForcibly();
+			}
+		}
+	}
+
+	private static ParseResult await(CompletableFuture<ParseResult> future) throws InterruptedException {
+		try {
+			return future.get();
+		} catch (ExecutionException e) {
+			return ParseResult.failure(e.getCause());
+		}
+	}
+
+	private static Thread daemon(Runnable task, String name) {
+		Thread thread = new Thread(task, name);
+		thread.setDaemon(true);
+		return thread;
+	}
+
+	private final class Slot {
+
+		final int index;
+		final Map<Long, CompletableFuture<ParseResult>> pending = new ConcurrentHashMap<>();
+		final AtomicInteger inFlight = new AtomicInteger();
+		// when the request now at the head of the worker's queue began parsing
+		volatile long headStarted;
+		volatile Process process;
+		volatile FrameChannel channel;
+		volatile int crashes;
+
+		Slot(int index) {
+			this.index = index;
+		}
+
+		void attach(FrameChannel channel) {
+			this.channel = channel;
+			daemon(() -> read(channel), "worker-read-" + index).start();
+			synchronized (liveness) {
+				liveness.notifyAll();
+			}
+		}
+
+		void send(long request, String sql, CompletableFuture<ParseResult> future) {
+			FrameChannel current = channel;
+			pending.put(request, future);
+			if (inFlight.getAndIncrement() == 0) {
+				headStarted = System.nanoTime();
+			}
+			try {
+				if (current == null) {
+					throw new IOException("worker " + index + " is not connected");
+				}
+				current.sendParse(request, sql);
+			} catch (IOException e) {
+				complete(request, ParseResult.failure(e));
+			}
+		}
+
+		void read(FrameChannel channel) {
+			try {
+				while (true) {
+					if (channel.read() != FrameChannel.RESULT) {
+						throw new IOException("unexpected frame from worker " + index);
+					}
+					long request = channel.readLong();
+					complete(request, ParseResult.of(channel.readValue()));
+					crashes = 0;
+				}
+			} catch (IOException | RuntimeException e) {
+				// the exit handler fails whatever is still pending and restarts the slot
+				Process current = process;
+				if (this.channel == channel && current != null) {
+					current.destroyForcibly();
+				}
+			}
+		}
+
+		void detach(String reason) {
+			FrameChannel current = channel;
+			channel = null;
+			if (current != null) {
+				try {
+					current.close();
+				} catch (IOException e) {
+					// already broken
+				}
+			}
+			for (Long request : pending.keySet()) {
+				complete(request, ParseResult.failure(reason));
+			}
+		}
+
+		void complete(long request, ParseResult result) {
+			CompletableFuture<ParseResult> done = pending.remove(request);
+			if (done != null) {
+				headStarted = System.nanoTime();
+				inFlight.decrementAndGet();
+				done.complete(result);
+			}
+		}
+	}
+
+	private final class RemoteEngine implements ParserEngine {
+
+		@Override
+		public Object getParser() {
+			return WorkerPool.this;
+		}
+
+		@Override
+		public Object parse(String input) throws Exception {
+			return parseResult(input).toMap();
+		}
+
+		@Override
+		public ParseResult parseResult(String input) throws Exception {
+			return WorkerPool.this.parse(input);
+		}
+
+		@Override
+		public List<ParseResult> parseBatch(List<String> inputs) {
+			try {
+				return WorkerPool.this.parseBatch(inputs);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				List<ParseResult> results = new ArrayList<>();
+				for (int i = 0; i < inputs.size(); i++) {
+					results.add(ParseResult.failure(e));
+				}
+				return results;
+			}
+		}
+	}
+
+}
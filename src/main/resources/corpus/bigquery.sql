@@ -0,0 +1,101 @@
+select * from Employee;
+
+SELECT * FROM (SELECT "apple" AS fruit, "carrot" AS vegetable);
+
+WITH Roster AS
+(SELECT 'Adams' as LastName, 50 as SchoolID UNION ALL
+SELECT 'Buchanan', 52 UNION ALL
+SELECT 'Coolidge', 52 UNION ALL
+SELECT 'Davis', 51 UNION ALL
+SELECT 'Eisenhower', 77)
+SELECT * FROM Roster;
+
+WITH groceries AS
+(SELECT "milk" AS dairy,
+"eggs" AS protein,
+"bread" AS grain)
+SELECT g.*
+FROM groceries AS g;
+
+WITH orders AS
+(SELECT 5 as order_id,
+"sprocket" as item_name,
+200 as quantity)
+SELECT * EXCEPT (order_id)
+FROM orders;
+
+SELECT STRUCT(1, 2) FROM Users;
+
+SELECT ARRAY(SELECT AS STRUCT 1 AS a, 2 AS b) FROM Users;
+
+SELECT ARRAY(SELECT IF(STARTS_WITH(Users.username, "a"),NULL, STRUCT(1, 2))) FROM Users;
+
+SELECT Roster.LastName, TeamMascot.Mascot
+FROM Roster JOIN TeamMascot ON Roster.SchoolID = TeamMascot.SchoolID;
+
+SELECT Roster.LastName, TeamMascot.Mascot
+FROM Roster CROSS JOIN TeamMascot;
+
+SELECT *
+FROM
+Roster
+JOIN
+UNNEST(
+ARRAY(
+SELECT AS STRUCT *
+FROM PlayerStats
+WHERE PlayerStats.OpponentID = Roster.SchoolID
+)) AS PlayerMatches
+ON PlayerMatches.LastName = 'Buchanan';
+
+SELECT s.SingerId, s.FirstName, s.LastName, s.SingerInfo, c.ConcertDate
+FROM Singers@{FORCE_INDEX=SingersByFirstLastName} AS s JOIN
+Concerts@{FORCE_INDEX=ConcertsBySingerId} AS c ON s.SingerId = c.SingerId
+WHERE s.FirstName = "Catalina" AND s.LastName > "M";
+
+SELECT MessageId
+FROM Messages TABLESAMPLE BERNOULLI (0.1 PERCENT);
+
+SELECT FirstName, LastName FROM Singers ORDER BY FirstName COLLATE "en_US" ASC,LastName COLLATE "ar_EG" DESC;
+
+SELECT LastName
+FROM Roster
+UNION ALL
+SELECT LastName
+FROM PlayerStats;
+
+SELECT * FROM `charged-mind-281913.SYdataset.books` FOR SYSTEM_TIME AS OF TIMESTAMP_SUB(CURRENT_TIMESTAMP(), INTERVAL 1 HOUR);
+
+INSERT INTO Singers (SingerId, FirstName, LastName) SELECT SingerId, FirstName, LastName FROM AckworthSingers;
+
+INSERT INTO Singers (SingerId, FirstName)
+ VALUES (4, (SELECT FirstName FROM AckworthSingers WHERE SingerId = 4));
+
+insert into BigQueryE2E.Ordered (id,name) values (101,"sandeep");
+
+DELETE FROM Singers WHERE FirstName = 'Alice';
+
+DELETE FROM Singers
+WHERE
+ FirstName NOT IN (SELECT FirstName from AckworthSingers);
+
+UPDATE Singers
+SET BirthDate = '1990-10-10'
+WHERE FirstName = 'Marc' AND LastName = 'Richards';
+
+UPDATE Concerts SET TicketPrices = [25, 50, 100]
+ WHERE VenueId = 1;
+
+UPDATE dataset.DetailedInventory
+SET comments = ARRAY<STRUCT<created DATE, comment STRING>>[(CAST('2016-01-01' AS DATE), 'comment1')]
+WHERE product like '%washer%';
+
+CREATE TABLE Singers (
+SingerId INT64 NOT NULL,
+FirstName STRING(1024),
+LastName STRING(1024),
+SingerInfo BYTES(MAX),
+BirthDate DATE
+) PRIMARY KEY(SingerId);
+
+create table `BigQueryE2E.Order`(id int64,name string);
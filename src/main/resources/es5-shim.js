@@ -0,0 +1,114 @@
+/*
+ * The ES6 built-ins the transpiled ES5 grammar still calls, for ES5.1 engines
+ * (Nashorn). Replaces the full core-js bundle; anything the engine already
+ * provides is left alone.
+ *
+ *   Set        add/has/delete/clear/forEach/size, keys()/values() as arrays
+ *   Array.from arrays, array-likes, strings and Set
+ *   Number.MAX_SAFE_INTEGER
+ *
+ * keys()/values() return array snapshots so babel's for-of helper takes its
+ * Array.isArray path and no Symbol.iterator is needed.
+ */
+(function (global) {
+
+  if (typeof Number.MAX_SAFE_INTEGER !== 'number') {
+    Number.MAX_SAFE_INTEGER = 9007199254740991;
+  }
+
+  if (typeof global.Set !== 'function') {
+    var Set = function Set(items) {
+      this._index = {};
+      this._values = [];
+      this.size = 0;
+      if (items != null) {
+        var values = Array.from(items);
+        for (var i = 0; i < values.length; i++) {
+          this.add(values[i]);
+        }
+      }
+    };
+
+    var key = function (value) {
+      return typeof value === 'string' ? '$' + value : null;
+    };
+
+    Set.prototype.indexOf = function (value) {
+      var k = key(value);
+      if (k !== null) {
+        return Object.prototype.hasOwnProperty.call(this._index, k) ? this._index[k] : -1;
+      }
+      for (var i = 0; i < this._values.length; i++) {
+        if (this._values[i] === value || (value !== value && this._values[i] !== this._values[i])) {
+          return i;
+        }
+      }
+      return -1;
+    };
+
+    Set.prototype.add = function (value) {
+      if (this.indexOf(value) < 0) {
+        var k = key(value);
+        if (k !== null) {
+          this._index[k] = this._values.length;
+        }
+        this._values.push(value);
+        this.size = this._values.length;
+      }
+      return this;
+    };
+
+    Set.prototype.has = function (value) {
+      return this.indexOf(value) >= 0;
+    };
+
+    Set.prototype['delete'] = function (value) {
+      var at = this.indexOf(value);
+      if (at < 0) {
+        return false;
+      }
+      this._values.splice(at, 1);
+      this._index = {};
+      for (var i = 0; i < this._values.length; i++) {
+        var k = key(this._values[i]);
+        if (k !== null) {
+          this._index[k] = i;
+        }
+      }
+      this.size = this._values.length;
+      return true;
+    };
+
+    Set.prototype.clear = function () {
+      this._index = {};
+      this._values = [];
+      this.size = 0;
+    };
+
+    Set.prototype.forEach = function (callback, thisArg) {
+      var values = this._values.slice();
+      for (var i = 0; i < values.length; i++) {
+        callback.call(thisArg, values[i], values[i], this);
+      }
+    };
+
+    Set.prototype.keys = Set.prototype.values = function () {
+      return this._values.slice();
+    };
+
+    global.Set = Set;
+  }
+
+  if (typeof Array.from !== 'function') {
+    Array.from = function (items, mapFn, thisArg) {
+      var source = items instanceof global.Set && items._values ? items._values : Object(items);
+      var length = source.length >>> 0;
+      var result = new Array(length);
+      for (var i = 0; i < length; i++) {
+        result[i] = mapFn ? mapFn.call(thisArg, source[i], i) : source[i];
+      }
+      return result;
+    };
+  }
+
+})(this);